@@ -2,10 +2,21 @@ package org.geysermc.hydraulic.neoforge;
 
 import net.neoforged.fml.common.Mod;
 import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.RegisterCommandsEvent;
 import net.neoforged.neoforge.event.server.ServerStartingEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
 import org.geysermc.hydraulic.Constants;
 import org.geysermc.hydraulic.HydraulicImpl;
+import org.geysermc.hydraulic.neoforge.command.HydraulicCommand;
+import org.geysermc.hydraulic.neoforge.configuration.ConfigurationAdmission;
+import org.geysermc.hydraulic.neoforge.configuration.ConfigurationTaskPlan;
+import org.geysermc.hydraulic.neoforge.event.BedrockListenerFilter;
+import org.geysermc.hydraulic.neoforge.network.PayloadFilterRules;
 import org.geysermc.hydraulic.neoforge.platform.HydraulicNeoForgeBootstrap;
+import org.geysermc.hydraulic.neoforge.util.BedrockDetectionHelper;
+import org.geysermc.hydraulic.neoforge.util.SuppressedEventLog;
+import org.geysermc.hydraulic.neoforge.util.TickProfiler;
+import org.geysermc.hydraulic.neoforge.util.TickScheduler;
 import org.geysermc.hydraulic.platform.HydraulicPlatform;
 
 @Mod(Constants.MOD_ID)
@@ -14,11 +25,36 @@ public class HydraulicNeoForgeMod {
 
     public HydraulicNeoForgeMod() {
         this.hydraulic = HydraulicImpl.load(HydraulicPlatform.NEOFORGE, new HydraulicNeoForgeBootstrap());
+        this.hydraulic.onConfigReload(PayloadFilterRules::reload);
+        this.hydraulic.onConfigReload(SuppressedEventLog::reload);
+        this.hydraulic.onConfigReload(ConfigurationAdmission::reload);
+        this.hydraulic.onConfigReload(ConfigurationTaskPlan::reload);
+        this.hydraulic.onConfigReload(BedrockDetectionHelper::reload);
+        this.hydraulic.onConfigReload(BedrockListenerFilter::reload);
+        this.hydraulic.onConfigReload(TickProfiler::reload);
+        this.hydraulic.registerServerStop(server -> SuppressedEventLog.flush());
+        this.hydraulic.registerServerStop(server -> TickScheduler.clear());
+        this.hydraulic.registerServerStop(server -> ConfigurationAdmission.clear());
 
         NeoForge.EVENT_BUS.addListener(this::onServerStarting);
+        NeoForge.EVENT_BUS.addListener(this::onRegisterCommands);
+        NeoForge.EVENT_BUS.addListener(this::onServerTick);
     }
 
     private void onServerStarting(ServerStartingEvent event) {
         this.hydraulic.onServerStarting(event.getServer());
+        BedrockListenerFilter.start();
+    }
+
+    private void onServerTick(ServerTickEvent.Post event) {
+        long start = TickProfiler.begin();
+        ConfigurationAdmission.tick();
+        TickScheduler.tick();
+        SuppressedEventLog.tick();
+        TickProfiler.end(start);
+    }
+
+    private void onRegisterCommands(RegisterCommandsEvent event) {
+        HydraulicCommand.register(event.getDispatcher(), this.hydraulic);
     }
 }
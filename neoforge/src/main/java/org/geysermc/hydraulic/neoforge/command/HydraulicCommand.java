@@ -0,0 +1,195 @@
+package org.geysermc.hydraulic.neoforge.command;
+
+import com.mojang.brigadier.CommandDispatcher;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+import org.geysermc.hydraulic.HydraulicImpl;
+import org.geysermc.hydraulic.neoforge.configuration.ConfigurationAdmission;
+import org.geysermc.hydraulic.neoforge.configuration.ConfigurationTaskPlan;
+import org.geysermc.hydraulic.neoforge.configuration.JoinLatency;
+import org.geysermc.hydraulic.neoforge.network.DisconnectPipeline;
+import org.geysermc.hydraulic.neoforge.network.PacketMetrics;
+import org.geysermc.hydraulic.neoforge.util.BedrockDetectionHelper;
+import org.geysermc.hydraulic.neoforge.util.LatencyHistogram;
+import org.geysermc.hydraulic.neoforge.util.TickProfiler;
+import org.geysermc.hydraulic.neoforge.util.TickScheduler;
+import org.geysermc.hydraulic.scheduler.HydraulicScheduler;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code /hydraulic} server command.
+ */
+public class HydraulicCommand {
+    private static final int MAX_METRICS_LINES = 15;
+
+    /**
+     * Registers the command to the given dispatcher.
+     *
+     * @param dispatcher the command dispatcher
+     * @param hydraulic the Hydraulic instance
+     */
+    public static void register(CommandDispatcher<CommandSourceStack> dispatcher, HydraulicImpl hydraulic) {
+        dispatcher.register(Commands.literal("hydraulic")
+            .requires(source -> source.hasPermission(Commands.LEVEL_ADMINS))
+            .then(Commands.literal("reload")
+                .executes(context -> {
+                    hydraulic.reloadConfig();
+                    context.getSource().sendSuccess(() -> Component.literal("Reloaded the Hydraulic config"), true);
+                    return 1;
+                })
+            )
+            .then(Commands.literal("scheduler")
+                .executes(context -> showScheduler(context.getSource(), hydraulic))
+            )
+            .then(Commands.literal("profiler")
+                .executes(context -> showProfiler(context.getSource()))
+            )
+            .then(Commands.literal("joins")
+                .executes(context -> showJoins(context.getSource()))
+            )
+            .then(Commands.literal("detection")
+                .executes(context -> showDetection(context.getSource()))
+            )
+            .then(Commands.literal("disconnects")
+                .executes(context -> showDisconnects(context.getSource()))
+                .then(Commands.literal("reset")
+                    .executes(context -> {
+                        DisconnectPipeline.resetStats();
+                        context.getSource().sendSuccess(() -> Component.literal("Reset the Hydraulic disconnect rule statistics"), true);
+                        return 1;
+                    })
+                )
+            )
+            .then(Commands.literal("latency")
+                .executes(context -> showLatency(context.getSource()))
+                .then(Commands.literal("reset")
+                    .executes(context -> {
+                        JoinLatency.reset();
+                        context.getSource().sendSuccess(() -> Component.literal("Reset the Hydraulic join latency histograms"), true);
+                        return 1;
+                    })
+                )
+            )
+            .then(Commands.literal("tasks")
+                .executes(context -> showTasks(context.getSource()))
+            )
+            .then(Commands.literal("metrics")
+                .executes(context -> showMetrics(context.getSource()))
+                .then(Commands.literal("reset")
+                    .executes(context -> {
+                        PacketMetrics.reset();
+                        context.getSource().sendSuccess(() -> Component.literal("Reset the Hydraulic packet metrics"), true);
+                        return 1;
+                    })
+                )
+            )
+        );
+    }
+
+    private static int showScheduler(CommandSourceStack source, HydraulicImpl hydraulic) {
+        HydraulicScheduler.Stats stats = hydraulic.scheduler().stats();
+        source.sendSuccess(() -> Component.literal("Hydraulic scheduler:"), false);
+        source.sendSuccess(() -> Component.literal(" - Conversion: " + stats.conversionActive() + "/" + stats.conversionThreads() + " active, "
+            + stats.conversionQueued() + " queued, " + stats.conversionSteals() + " steals"), false);
+        source.sendSuccess(() -> Component.literal(" - Tick: " + TickScheduler.pending() + " pending"), false);
+        return 1;
+    }
+
+    private static int showProfiler(CommandSourceStack source) {
+        TickProfiler.Stats stats = TickProfiler.stats();
+        source.sendSuccess(() -> Component.literal("Hydraulic tick time over the last " + stats.ticks() + " ticks:"), false);
+        source.sendSuccess(() -> Component.literal(" - Per tick: p50 " + stats.p50Micros() + "µs, p99 " + stats.p99Micros()
+            + "µs, max " + stats.maxMicros() + "µs (" + String.format(Locale.ROOT, "%.2f", stats.sharePercent()) + "% of tick time)"), false);
+        source.sendSuccess(() -> Component.literal(" - " + stats.overBudget() + " ticks over budget, " + stats.offThreadMicros() + "µs spent off the server thread"), false);
+        return stats.ticks();
+    }
+
+    private static int showJoins(CommandSourceStack source) {
+        ConfigurationAdmission.Stats stats = ConfigurationAdmission.stats();
+        source.sendSuccess(() -> Component.literal("Bedrock configuration admission (" + (stats.maxPerTick() > 0 ? stats.maxPerTick() + " per tick" : "unlimited") + "):"), false);
+        source.sendSuccess(() -> Component.literal(" - " + stats.waiting() + " waiting, " + stats.admitted() + " admitted, " + stats.queued() + " had to wait"), false);
+        source.sendSuccess(() -> Component.literal(" - Wait time: " + stats.averageWaitMillis() + "ms average, " + stats.maxWaitMillis() + "ms max"), false);
+        return stats.waiting();
+    }
+
+    private static int showDetection(CommandSourceStack source) {
+        List<BedrockDetectionHelper.Stats> stats = BedrockDetectionHelper.stats();
+        source.sendSuccess(() -> Component.literal("Bedrock detection strategies:"), false);
+        for (BedrockDetectionHelper.Stats strategy : stats) {
+            long averageMicros = strategy.calls() > 0 ? TimeUnit.NANOSECONDS.toMicros(strategy.totalNanos() / strategy.calls()) : 0;
+            source.sendSuccess(() -> Component.literal(" - " + strategy.name() + ": " + strategy.hits() + "/" + strategy.calls()
+                + " answered, " + averageMicros + "µs average"), false);
+        }
+
+        return stats.size();
+    }
+
+    private static int showDisconnects(CommandSourceStack source) {
+        List<DisconnectPipeline.RuleStats> stats = DisconnectPipeline.stats();
+        source.sendSuccess(() -> Component.literal("Hydraulic disconnect rules:"), false);
+        for (DisconnectPipeline.RuleStats rule : stats) {
+            long averageMicros = rule.evaluated() > 0 ? TimeUnit.NANOSECONDS.toMicros(rule.totalNanos() / rule.evaluated()) : 0;
+            source.sendSuccess(() -> Component.literal(" - " + rule.name() + ": " + rule.fired() + " prevented, "
+                + rule.evaluated() + " evaluated, " + averageMicros + "µs average"), false);
+        }
+
+        return stats.size();
+    }
+
+    private static int showLatency(CommandSourceStack source) {
+        List<JoinLatency.Entry> entries = JoinLatency.snapshot();
+        if (entries.isEmpty()) {
+            source.sendSuccess(() -> Component.literal("No configuration phase has been completed yet"), false);
+            return 0;
+        }
+
+        source.sendSuccess(() -> Component.literal("Configuration phase latency (ms since start):"), false);
+        for (JoinLatency.Entry entry : entries) {
+            LatencyHistogram.Snapshot histogram = entry.histogram();
+            source.sendSuccess(() -> Component.literal(" - " + entry.client().name().toLowerCase(Locale.ROOT)
+                + " " + entry.path().name().toLowerCase(Locale.ROOT) + " " + entry.stage().name().toLowerCase(Locale.ROOT)
+                + ": " + histogram.count() + " joins, p50 " + histogram.p50() + ", p90 " + histogram.p90()
+                + ", p99 " + histogram.p99() + ", max " + histogram.max()), false);
+        }
+
+        return entries.size();
+    }
+
+    private static int showTasks(CommandSourceStack source) {
+        Map<Class<?>, ConfigurationTaskPlan.Decision> entries = ConfigurationTaskPlan.current().entries();
+        if (entries.isEmpty()) {
+            source.sendSuccess(() -> Component.literal("No configuration tasks have been seen for Bedrock players yet"), false);
+            return 0;
+        }
+
+        source.sendSuccess(() -> Component.literal("Configuration tasks of Bedrock players:"), false);
+        entries.entrySet().stream()
+            .sorted(Comparator.comparing(entry -> entry.getKey().getName()))
+            .forEach(entry -> source.sendSuccess(() -> Component.literal(" - " + entry.getKey().getName() + ": "
+                + (entry.getValue().skip() ? "skipped" : "kept") + " (" + entry.getValue().reason() + ")"), false));
+
+        return entries.size();
+    }
+
+    private static int showMetrics(CommandSourceStack source) {
+        List<PacketMetrics.Entry> entries = PacketMetrics.snapshot();
+        if (entries.isEmpty()) {
+            source.sendSuccess(() -> Component.literal("Hydraulic has not filtered any packets yet"), false);
+            return 0;
+        }
+
+        source.sendSuccess(() -> Component.literal("Top packets filtered by Hydraulic:"), false);
+        for (PacketMetrics.Entry entry : entries.subList(0, Math.min(MAX_METRICS_LINES, entries.size()))) {
+            source.sendSuccess(() -> Component.literal(" - " + entry.packet() + " " + entry.action().name().toLowerCase(Locale.ROOT)
+                + " (" + entry.phase().name().toLowerCase(Locale.ROOT) + "): " + entry.count()), false);
+        }
+
+        return entries.size();
+    }
+}
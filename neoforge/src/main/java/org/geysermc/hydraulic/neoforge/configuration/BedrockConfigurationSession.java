@@ -0,0 +1,408 @@
+package org.geysermc.hydraulic.neoforge.configuration;
+
+import io.netty.channel.Channel;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
+import net.minecraft.network.Connection;
+import net.minecraft.server.network.ConfigurationTask;
+import net.minecraft.server.network.ServerConfigurationPacketListenerImpl;
+import org.geysermc.hydraulic.neoforge.mixin.accessor.ServerCommonPacketListenerAccessor;
+import org.geysermc.hydraulic.neoforge.mixin.accessor.ServerConfigurationPacketListenerAccessor;
+import org.geysermc.hydraulic.neoforge.util.TickScheduler;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives the configuration phase of a single Bedrock player.
+ * <p>
+ * Bedrock players cannot answer most configuration tasks (the packets they
+ * wait on are dropped by the Bedrock packet filter), so on the first
+ * {@code startNextTask} call the session removes every task the
+ * {@link ConfigurationTaskPlan} skips. Tasks the plan keeps run as usual, after
+ * which the session finishes the configuration on the player's behalf. During
+ * join storms the session may first have to wait for {@link ConfigurationAdmission}
+ * to let it progress:
+ * <pre>
+ * NEGOTIATING -> (QUEUED) -> (RUNNING_TASKS) -> JOINING -> COMPLETE
+ *      |                                          |
+ *      +------------------------------------------+-> FAILED (retried once by the fallback)
+ * </pre>
+ * If the configuration is still not finished after 30 seconds, the session forces it
+ * to complete. One session exists per configuration listener, stored as an attribute on
+ * the Netty channel of its connection. A player that is sent back into configuration gets
+ * a new listener and therefore a new session. All transitions happen on the server thread,
+ * including the fallback and the timeout which are run by the {@link TickScheduler}.
+ */
+public class BedrockConfigurationSession {
+    private static final Logger LOGGER = LoggerFactory.getLogger("BedrockConfigurationSession");
+
+    /**
+     * Channel attribute holding the configuration session of a Bedrock connection.
+     */
+    public static final AttributeKey<BedrockConfigurationSession> SESSION = AttributeKey.valueOf("hydraulic:configuration_session");
+
+    /**
+     * How long to wait before retrying a configuration that failed to complete, 5 seconds.
+     */
+    private static final int FALLBACK_DELAY_TICKS = 5 * 20;
+
+    /**
+     * How long a Bedrock player may stay in the configuration phase before it is forced to complete, 30 seconds.
+     */
+    private static final int CONFIGURATION_TIMEOUT_TICKS = 30 * 20;
+
+    private final Connection connection;
+    private final ServerConfigurationPacketListenerImpl listener;
+    private final String playerName;
+    private final long startNanos = System.nanoTime();
+
+    private State state = State.NEGOTIATING;
+    private long queuedNanos;
+    private long tasksSkippedNanos;
+    private long finishSuppressedNanos;
+    private JoinLatency.Path path = JoinLatency.Path.DIRECT;
+    private State failedIn;
+    private boolean retried;
+    private TickScheduler.Task fallback;
+    private TickScheduler.Task timeout;
+
+    private BedrockConfigurationSession(Connection connection, ServerConfigurationPacketListenerImpl listener) {
+        this.connection = connection;
+        this.listener = listener;
+        this.playerName = listener.getOwner().getName();
+    }
+
+    /**
+     * Gets the configuration session of the given configuration listener, creating it if
+     * needed. A session left behind by an earlier configuration of the same connection is
+     * closed and replaced.
+     *
+     * @param listener the configuration listener of the Bedrock player
+     * @return the configuration session, or null if the connection has no channel
+     */
+    @Nullable
+    public static BedrockConfigurationSession get(@NotNull ServerConfigurationPacketListenerImpl listener) {
+        Connection connection = ((ServerCommonPacketListenerAccessor) listener).hydraulic$getConnection();
+        Channel channel = connection.channel();
+        if (channel == null) {
+            return null;
+        }
+
+        Attribute<BedrockConfigurationSession> attribute = channel.attr(SESSION);
+        while (true) {
+            BedrockConfigurationSession session = attribute.get();
+            if (session != null && session.listener == listener) {
+                return session;
+            }
+
+            BedrockConfigurationSession created = new BedrockConfigurationSession(connection, listener);
+            if (attribute.compareAndSet(session, created)) {
+                if (session != null) {
+                    // The player is being configured again, the old session must not act on the new listener
+                    session.cancelFallback();
+                    session.cancelTimeout();
+                }
+                return created;
+            }
+        }
+    }
+
+    /**
+     * Gets the configuration session of the given configuration listener without creating one.
+     *
+     * @param listener the configuration listener
+     * @return the configuration session, or null if the listener has none
+     */
+    @Nullable
+    public static BedrockConfigurationSession find(@NotNull ServerConfigurationPacketListenerImpl listener) {
+        Channel channel = ((ServerCommonPacketListenerAccessor) listener).hydraulic$getConnection().channel();
+        BedrockConfigurationSession session = channel != null ? channel.attr(SESSION).get() : null;
+        return session != null && session.listener == listener ? session : null;
+    }
+
+    /**
+     * Called at the start of every {@code startNextTask} call of the player's configuration listener.
+     *
+     * @return if the original {@code startNextTask} call should be cancelled
+     */
+    public boolean onStartNextTask() {
+        ServerConfigurationPacketListenerImpl listener = this.listener;
+        if (this.state == State.QUEUED) {
+            // Hold the task flow until the session is admitted
+            return true;
+        }
+
+        if (this.state == State.RUNNING_TASKS) {
+            if (!((ServerConfigurationPacketListenerAccessor) listener).hydraulic$getConfigurationTasks().isEmpty()) {
+                // Let vanilla start the next kept task
+                return false;
+            }
+
+            this.complete(listener);
+            return true;
+        }
+
+        if (this.state != State.NEGOTIATING) {
+            // Our own completion chain re-enters startNextTask, let vanilla handle those calls
+            return false;
+        }
+
+        if (!ConfigurationAdmission.tryAdmit(this)) {
+            LOGGER.debug("BedrockConfigurationSession: Queued configuration of Bedrock player: {}", this.playerName);
+            this.state = State.QUEUED;
+            this.queuedNanos = System.nanoTime();
+            return true;
+        }
+
+        return this.proceed(listener);
+    }
+
+    /**
+     * Lets a queued session progress, called by {@link ConfigurationAdmission}.
+     *
+     * @return how long the session waited in nanoseconds, or -1 if it is no longer waiting
+     */
+    long admit() {
+        if (this.state != State.QUEUED || !this.connection.isConnected() || this.connection.getPacketListener() != this.listener) {
+            return -1;
+        }
+
+        this.state = State.NEGOTIATING;
+        this.path = JoinLatency.Path.QUEUED;
+        if (!this.proceed(this.listener)) {
+            // startNextTask was cancelled when the session got queued, start the first kept task now
+            ((ServerConfigurationPacketListenerAccessor) this.listener).hydraulic$startNextTask();
+        }
+
+        return System.nanoTime() - this.queuedNanos;
+    }
+
+    /**
+     * Starts the configuration timeout of the player. If the configuration of the
+     * listener of this session has not been finished once it runs out, it is forced
+     * to complete. Every configuration of the player, including one the player is sent
+     * back into, gets its own session and therefore its own timeout.
+     */
+    public void startTimeout() {
+        if (this.timeout != null || this.state == State.COMPLETE) {
+            return;
+        }
+
+        this.timeout = TickScheduler.schedule(CONFIGURATION_TIMEOUT_TICKS, () -> {
+            this.timeout = null;
+            this.onTimeout(this.listener);
+        });
+    }
+
+    /**
+     * Called when the configuration of the player has been finished, either
+     * by this session or by the client itself. Cancels any pending fallback and timeout.
+     */
+    public void onConfigurationFinished() {
+        long elapsedNanos = System.nanoTime() - this.startNanos;
+
+        // Anything but our own completion chain means the client finished the configuration itself
+        JoinLatency.Path path = this.state == State.JOINING ? this.path : JoinLatency.Path.CLIENT;
+        this.state = State.COMPLETE;
+        this.cancelFallback();
+        this.cancelTimeout();
+
+        if (this.tasksSkippedNanos > 0) {
+            JoinLatency.record(JoinLatency.Client.BEDROCK, path, JoinLatency.Stage.TASKS_SKIPPED, this.tasksSkippedNanos - this.startNanos);
+        }
+        if (this.finishSuppressedNanos > 0) {
+            JoinLatency.record(JoinLatency.Client.BEDROCK, path, JoinLatency.Stage.FINISH_SUPPRESSED, this.finishSuppressedNanos - this.startNanos);
+        }
+        JoinLatency.record(JoinLatency.Client.BEDROCK, path, JoinLatency.Stage.WORLD_ENTERED, elapsedNanos);
+
+        LOGGER.info("BedrockConfigurationSession: Bedrock player {} completed configuration in {}ms ({})",
+            this.playerName, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), path.name().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Cancels any pending work of the session of the given connection, used when the player disconnects.
+     *
+     * @param connection the connection
+     */
+    public static void close(@NotNull Connection connection) {
+        Channel channel = connection.channel();
+        if (channel == null) {
+            return;
+        }
+
+        BedrockConfigurationSession session = channel.attr(SESSION).getAndSet(null);
+        if (session != null) {
+            session.cancelFallback();
+            session.cancelTimeout();
+        }
+    }
+
+    /**
+     * Gets the current state of the session.
+     *
+     * @return the current state
+     */
+    @NotNull
+    public State state() {
+        return this.state;
+    }
+
+    /**
+     * Removes the skipped tasks, then either finishes the configuration or lets the kept tasks run.
+     *
+     * @return if the original {@code startNextTask} call should be cancelled
+     */
+    private boolean proceed(ServerConfigurationPacketListenerImpl listener) {
+        Queue<ConfigurationTask> tasks = ((ServerConfigurationPacketListenerAccessor) listener).hydraulic$getConfigurationTasks();
+        ConfigurationTaskPlan plan = ConfigurationTaskPlan.current();
+
+        int before = tasks.size();
+        tasks.removeIf(task -> plan.decision(task).skip());
+        this.tasksSkippedNanos = System.nanoTime();
+        LOGGER.debug("BedrockConfigurationSession: Skipped {} configuration tasks for Bedrock player: {}", before - tasks.size(), this.playerName);
+
+        if (tasks.isEmpty()) {
+            this.complete(listener);
+            return true;
+        }
+
+        this.state = State.RUNNING_TASKS;
+        return false;
+    }
+
+    private void complete(ServerConfigurationPacketListenerImpl listener) {
+        // The state to resume from if this fails, only JOINING once the join world task is queued
+        State from = this.state;
+        try {
+            if (this.state == State.NEGOTIATING || this.state == State.RUNNING_TASKS) {
+                // Queues the join world task and starts it, the finish packet it sends is dropped by the packet filter.
+                // The state is already JOINING so the startNextTask call this makes is left to vanilla
+                this.state = State.JOINING;
+                listener.returnToWorld();
+                this.finishSuppressedNanos = System.nanoTime();
+                from = State.JOINING;
+            }
+
+            if (this.state == State.JOINING) {
+                // Acknowledge the finish on behalf of the client, which moves the player into the world
+                listener.handleConfigurationFinished(null);
+                this.state = State.COMPLETE;
+            }
+        } catch (Exception e) {
+            LOGGER.warn("BedrockConfigurationSession: Failed to complete configuration for Bedrock player {} while {}",
+                this.playerName, from, e);
+
+            this.failedIn = from;
+            this.state = State.FAILED;
+            if (!this.retried) {
+                this.scheduleFallback(listener);
+            }
+        }
+    }
+
+    private void scheduleFallback(ServerConfigurationPacketListenerImpl listener) {
+        this.fallback = TickScheduler.schedule(FALLBACK_DELAY_TICKS, () -> {
+            this.fallback = null;
+            if (this.state != State.FAILED || !this.connection.isConnected() || this.connection.getPacketListener() != listener) {
+                return;
+            }
+
+            LOGGER.info("BedrockConfigurationSession: Retrying configuration completion for Bedrock player: {}", this.playerName);
+
+            // Resume where we failed, but only once
+            this.retried = true;
+            this.path = JoinLatency.Path.FALLBACK;
+            this.state = this.failedIn;
+            if (this.state != State.JOINING) {
+                // Anything left over is from the failed returnToWorld call, which is about to be made again
+                this.resetTasks(listener);
+            }
+            this.complete(listener);
+        });
+    }
+
+    private void onTimeout(ServerConfigurationPacketListenerImpl listener) {
+        if (this.state == State.COMPLETE || !this.connection.isConnected() || this.connection.getPacketListener() != listener) {
+            return;
+        }
+
+        LOGGER.warn("BedrockConfigurationSession: Bedrock player {} has been stuck in configuration for {}ms while {}, forcing completion",
+            this.playerName, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.startNanos), this.state);
+
+        this.cancelFallback();
+        this.retried = true;
+        this.path = JoinLatency.Path.TIMEOUT;
+        if (this.state == State.FAILED) {
+            this.state = this.failedIn;
+        } else if (this.state == State.QUEUED) {
+            // Skip the queue, the admission controller drops sessions that are no longer queued
+            this.state = State.NEGOTIATING;
+        }
+
+        if (this.state == State.NEGOTIATING || this.state == State.RUNNING_TASKS) {
+            // Whatever task is hanging would keep returnToWorld from starting the join world task
+            this.resetTasks(listener);
+        }
+
+        this.complete(listener);
+    }
+
+    private void resetTasks(ServerConfigurationPacketListenerImpl listener) {
+        Queue<ConfigurationTask> tasks = ((ServerConfigurationPacketListenerAccessor) listener).hydraulic$getConfigurationTasks();
+        LOGGER.debug("BedrockConfigurationSession: Dropping all {} remaining configuration tasks for Bedrock player: {}", tasks.size(), this.playerName);
+        tasks.clear();
+        ((ServerConfigurationPacketListenerAccessor) listener).hydraulic$setCurrentTask(null);
+    }
+
+    private void cancelTimeout() {
+        TickScheduler.Task timeout = this.timeout;
+        if (timeout != null) {
+            timeout.cancel();
+            this.timeout = null;
+        }
+    }
+
+    private void cancelFallback() {
+        TickScheduler.Task fallback = this.fallback;
+        if (fallback != null) {
+            fallback.cancel();
+            this.fallback = null;
+        }
+    }
+
+    /**
+     * The states of a Bedrock configuration session.
+     */
+    public enum State {
+        /**
+         * The configuration phase has started, no task has been handled yet.
+         */
+        NEGOTIATING,
+        /**
+         * The session is waiting for {@link ConfigurationAdmission} to let it progress.
+         */
+        QUEUED,
+        /**
+         * The skipped tasks have been removed and the tasks kept by the plan are running.
+         */
+        RUNNING_TASKS,
+        /**
+         * The task queue has been drained and the join world task has been started.
+         */
+        JOINING,
+        /**
+         * The configuration has been finished and the player is joining the world.
+         */
+        COMPLETE,
+        /**
+         * Completing the configuration failed, a fallback may retry it.
+         */
+        FAILED
+    }
+}
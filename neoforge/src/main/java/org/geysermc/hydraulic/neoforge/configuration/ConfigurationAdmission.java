@@ -0,0 +1,118 @@
+package org.geysermc.hydraulic.neoforge.configuration;
+
+import org.geysermc.hydraulic.config.HydraulicConfig;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits how many Bedrock configuration sessions may progress per server tick.
+ * <p>
+ * When a proxy restarts, hundreds of Bedrock players can reach the configuration
+ * phase within a few ticks. Sessions over the per tick budget wait in a FIFO
+ * queue and are admitted at the end of the following ticks, which spreads the
+ * work of finishing their configuration over several ticks. Everything in here
+ * runs on the server thread.
+ */
+public class ConfigurationAdmission {
+    private static final Deque<BedrockConfigurationSession> QUEUE = new ArrayDeque<>();
+
+    private static volatile int maxPerTick;
+    private static int admittedThisTick;
+
+    private static long admitted;
+    private static long queued;
+    private static long admittedFromQueue;
+    private static long totalWaitNanos;
+    private static long maxWaitNanos;
+
+    /**
+     * Applies the admission options from the given configuration.
+     *
+     * @param config the configuration
+     */
+    public static void reload(@NotNull HydraulicConfig config) {
+        maxPerTick = config.joins().maxBedrockCompletionsPerTick();
+    }
+
+    /**
+     * Asks to let the given session progress this tick. If the budget for this
+     * tick is used up, the session is queued and admitted in a later tick.
+     *
+     * @param session the session
+     * @return if the session may progress right away
+     */
+    static boolean tryAdmit(@NotNull BedrockConfigurationSession session) {
+        // Sessions already waiting go first
+        if (maxPerTick <= 0 || (QUEUE.isEmpty() && admittedThisTick < maxPerTick)) {
+            admittedThisTick++;
+            admitted++;
+            return true;
+        }
+
+        QUEUE.add(session);
+        queued++;
+        return false;
+    }
+
+    /**
+     * Starts a new tick budget and admits as many queued sessions as it allows.
+     * Must be called from the server thread once per tick.
+     */
+    public static void tick() {
+        admittedThisTick = 0;
+
+        while (!QUEUE.isEmpty() && (maxPerTick <= 0 || admittedThisTick < maxPerTick)) {
+            long waitedNanos = QUEUE.poll().admit();
+            if (waitedNanos < 0) {
+                // The session timed out or the player left while waiting
+                continue;
+            }
+
+            admittedThisTick++;
+            admitted++;
+            admittedFromQueue++;
+            totalWaitNanos += waitedNanos;
+            maxWaitNanos = Math.max(maxWaitNanos, waitedNanos);
+        }
+    }
+
+    /**
+     * Drops every waiting session, used when the server stops.
+     */
+    public static void clear() {
+        QUEUE.clear();
+    }
+
+    /**
+     * Gets a snapshot of the admission state. Must be called from the server thread.
+     *
+     * @return the admission statistics
+     */
+    @NotNull
+    public static Stats stats() {
+        return new Stats(
+            QUEUE.size(),
+            admitted,
+            queued,
+            admittedFromQueue > 0 ? TimeUnit.NANOSECONDS.toMillis(totalWaitNanos / admittedFromQueue) : 0,
+            TimeUnit.NANOSECONDS.toMillis(maxWaitNanos),
+            maxPerTick
+        );
+    }
+
+    /**
+     * A snapshot of the admission state.
+     *
+     * @param waiting the number of sessions currently waiting
+     * @param admitted the number of sessions admitted in total
+     * @param queued the number of sessions that had to wait in total
+     * @param averageWaitMillis the average time an admitted queued session waited
+     * @param maxWaitMillis the longest time a queued session waited
+     * @param maxPerTick the number of sessions admitted per tick, 0 if unlimited
+     */
+    public record Stats(int waiting, long admitted, long queued, long averageWaitMillis, long maxWaitMillis, int maxPerTick) {
+    }
+}
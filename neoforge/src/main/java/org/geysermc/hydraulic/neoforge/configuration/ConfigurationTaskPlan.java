@@ -0,0 +1,148 @@
+package org.geysermc.hydraulic.neoforge.configuration;
+
+import net.minecraft.server.network.ConfigurationTask;
+import net.minecraft.server.network.config.JoinWorldTask;
+import org.geysermc.hydraulic.config.HydraulicConfig;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides which configuration tasks are skipped for Bedrock players.
+ * <p>
+ * The set of task types is fixed once mods are loaded, so the decision is
+ * made once per task class and cached in a {@link ClassValue}. Filtering the
+ * queue of a join is then a single pass of lookups without any string work.
+ * Every decision made so far can be listed with {@link #entries()}.
+ */
+public class ConfigurationTaskPlan {
+    private static final Logger LOGGER = LoggerFactory.getLogger("ConfigurationTaskPlan");
+
+    private static volatile ConfigurationTaskPlan current = new ConfigurationTaskPlan(Set.of());
+
+    private final Set<String> keptTasks;
+    private final Map<Class<?>, Decision> entries = new ConcurrentHashMap<>();
+    private final ClassValue<Decision> decisions = new ClassValue<>() {
+        @Override
+        protected Decision computeValue(Class<?> type) {
+            Decision decision = decide(type);
+            ConfigurationTaskPlan.this.entries.put(type, decision);
+            LOGGER.debug("ConfigurationTaskPlan: {} -> {}", type.getName(), decision);
+            return decision;
+        }
+    };
+
+    private ConfigurationTaskPlan(Set<String> keptTasks) {
+        this.keptTasks = keptTasks;
+    }
+
+    /**
+     * Gets the currently active plan.
+     *
+     * @return the active plan
+     */
+    @NotNull
+    public static ConfigurationTaskPlan current() {
+        return current;
+    }
+
+    /**
+     * Creates a new plan from the given configuration and makes it active.
+     *
+     * @param config the configuration
+     */
+    public static void reload(@NotNull HydraulicConfig config) {
+        current = new ConfigurationTaskPlan(Set.copyOf(config.joins().keptConfigurationTasks()));
+    }
+
+    /**
+     * Gets the decision for the given task.
+     *
+     * @param task the task
+     * @return the decision for the task
+     */
+    @NotNull
+    public Decision decision(@NotNull ConfigurationTask task) {
+        return this.decisions.get(task.getClass());
+    }
+
+    /**
+     * Gets every decision made by this plan so far, keyed by task class.
+     *
+     * @return the decisions made so far
+     */
+    @NotNull
+    public Map<Class<?>, Decision> entries() {
+        return Map.copyOf(this.entries);
+    }
+
+    private Decision decide(Class<?> taskClass) {
+        String taskClassName = taskClass.getName();
+        if (this.keptTasks.contains(taskClassName)) {
+            return Decision.KEEP;
+        }
+
+        if (JoinWorldTask.class.isAssignableFrom(taskClass)) {
+            return Decision.SKIP_JOIN_WORLD;
+        }
+
+        if (taskClassName.contains("neoforge") || taskClassName.contains("SyncConfig")) {
+            return Decision.SKIP_NEOFORGE;
+        }
+
+        return Decision.SKIP_UNANSWERABLE;
+    }
+
+    /**
+     * What happens to a configuration task of a Bedrock player.
+     */
+    public enum Decision {
+        /**
+         * The task runs as usual, because it is listed in {@code joins.keptConfigurationTasks}.
+         */
+        KEEP(false, "kept by configuration"),
+        /**
+         * The task is skipped, the configuration is finished by Hydraulic on the player's behalf.
+         */
+        SKIP_JOIN_WORLD(true, "finished by Hydraulic"),
+        /**
+         * The task is skipped, it needs a NeoForge client.
+         */
+        SKIP_NEOFORGE(true, "needs a NeoForge client"),
+        /**
+         * The task is skipped, it waits on packets Bedrock players never receive.
+         */
+        SKIP_UNANSWERABLE(true, "waits on packets Bedrock players never receive");
+
+        private final boolean skip;
+        private final String reason;
+
+        Decision(boolean skip, String reason) {
+            this.skip = skip;
+            this.reason = reason;
+        }
+
+        /**
+         * Gets if tasks with this decision are skipped.
+         *
+         * @return if the task is skipped
+         */
+        public boolean skip() {
+            return this.skip;
+        }
+
+        /**
+         * Gets a short human readable reason for the decision.
+         *
+         * @return the reason
+         */
+        @NotNull
+        public String reason() {
+            return this.reason;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package org.geysermc.hydraulic.neoforge.configuration;
+
+import io.netty.util.AttributeKey;
+import org.geysermc.hydraulic.neoforge.util.LatencyHistogram;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Histograms of how long players spend in the configuration phase.
+ * <p>
+ * Every stage is measured from the start of the configuration phase, split by
+ * the kind of client and by the way the configuration was completed. Java
+ * players only report {@link Stage#WORLD_ENTERED}, the intermediate stages
+ * only exist for Bedrock players. Use {@link #snapshot()} to read them.
+ */
+public class JoinLatency {
+    /**
+     * Channel attribute holding the time the configuration phase of a Java connection started, from {@link System#nanoTime()}.
+     */
+    public static final AttributeKey<Long> JAVA_START = AttributeKey.valueOf("hydraulic:configuration_start");
+
+    private static final LatencyHistogram[][][] HISTOGRAMS = new LatencyHistogram[Client.values().length][Path.values().length][Stage.values().length];
+
+    static {
+        for (Client client : Client.values()) {
+            for (Path path : Path.values()) {
+                for (Stage stage : Stage.values()) {
+                    HISTOGRAMS[client.ordinal()][path.ordinal()][stage.ordinal()] = new LatencyHistogram();
+                }
+            }
+        }
+    }
+
+    /**
+     * Records how long after the start of the configuration phase a stage was reached.
+     *
+     * @param client the kind of client
+     * @param path the way the configuration was completed
+     * @param stage the stage that was reached
+     * @param nanos the time since the start of the configuration phase in nanoseconds
+     */
+    public static void record(@NotNull Client client, @NotNull Path path, @NotNull Stage stage, long nanos) {
+        HISTOGRAMS[client.ordinal()][path.ordinal()][stage.ordinal()].recordNanos(nanos);
+    }
+
+    /**
+     * Takes a snapshot of all histograms with at least one recorded value.
+     *
+     * @return the histograms
+     */
+    @NotNull
+    public static List<Entry> snapshot() {
+        List<Entry> entries = new ArrayList<>();
+        for (Client client : Client.values()) {
+            for (Path path : Path.values()) {
+                for (Stage stage : Stage.values()) {
+                    LatencyHistogram.Snapshot snapshot = HISTOGRAMS[client.ordinal()][path.ordinal()][stage.ordinal()].snapshot();
+                    if (snapshot.count() > 0) {
+                        entries.add(new Entry(client, path, stage, snapshot));
+                    }
+                }
+            }
+        }
+
+        return entries;
+    }
+
+    /**
+     * Removes every recorded value.
+     */
+    public static void reset() {
+        for (LatencyHistogram[][] paths : HISTOGRAMS) {
+            for (LatencyHistogram[] stages : paths) {
+                for (LatencyHistogram histogram : stages) {
+                    histogram.reset();
+                }
+            }
+        }
+    }
+
+    /**
+     * The kind of client that joined.
+     */
+    public enum Client {
+        BEDROCK,
+        JAVA
+    }
+
+    /**
+     * The way the configuration phase was completed.
+     */
+    public enum Path {
+        /**
+         * The client finished the configuration itself, the vanilla flow.
+         */
+        CLIENT,
+        /**
+         * Hydraulic finished the configuration as soon as the player's tasks were done.
+         */
+        DIRECT,
+        /**
+         * Hydraulic finished the configuration after the player waited for {@link ConfigurationAdmission}.
+         */
+        QUEUED,
+        /**
+         * Finishing the configuration failed and was retried by the fallback.
+         */
+        FALLBACK,
+        /**
+         * The configuration was stuck and forced to complete by the timeout.
+         */
+        TIMEOUT
+    }
+
+    /**
+     * A point in the configuration phase, measured from its start.
+     */
+    public enum Stage {
+        /**
+         * The configuration tasks Bedrock players cannot answer have been skipped.
+         */
+        TASKS_SKIPPED,
+        /**
+         * The finish configuration packet has been sent, and dropped by the packet filter.
+         */
+        FINISH_SUPPRESSED,
+        /**
+         * The configuration has been finished and the player is moving into the world.
+         */
+        WORLD_ENTERED
+    }
+
+    /**
+     * A histogram in a snapshot.
+     *
+     * @param client the kind of client
+     * @param path the way the configuration was completed
+     * @param stage the stage
+     * @param histogram the recorded durations
+     */
+    public record Entry(Client client, Path path, Stage stage, LatencyHistogram.Snapshot histogram) {
+    }
+}
@@ -0,0 +1,239 @@
+package org.geysermc.hydraulic.neoforge.event;
+
+import net.minecraft.server.level.ServerPlayer;
+import net.neoforged.bus.api.Event;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.fml.loading.FMLEnvironment;
+import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.entity.EntityEvent;
+import org.geysermc.hydraulic.config.HydraulicConfig;
+import org.geysermc.hydraulic.neoforge.util.BedrockPlayerRegistry;
+import org.geysermc.hydraulic.neoforge.util.SuppressedEventLog;
+import org.geysermc.hydraulic.neoforge.util.TickProfiler;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Keeps selected mod event listeners from running for Bedrock players.
+ * <p>
+ * Listeners are configured in {@code compatibility.skippedBedrockListeners}. Every
+ * class with a skipped listener is taken off the game event bus, and its static
+ * {@link SubscribeEvent} methods are registered again one by one with the same
+ * priority. Skipped listeners are wrapped in a check that returns early for
+ * Bedrock players, the others are registered unchanged. How the player of an
+ * event is found is worked out once per event type and cached, so the check
+ * itself is a single lookup and a channel attribute read. The player is taken
+ * from the entity of an {@link EntityEvent}, or from a public {@code getPlayer()}
+ * method for other events such as {@code ServerChatEvent}.
+ * <p>
+ * The event bus does not tell which classes are registered on it, so only classes
+ * annotated with {@link EventBusSubscriber} for the current side are handled, which
+ * FML registers on the game bus as a class. Any other class is left alone with a
+ * warning, since taking it off the bus could do nothing and registering its methods
+ * again would then run them twice.
+ */
+public class BedrockListenerFilter {
+    private static final Logger LOGGER = LoggerFactory.getLogger("BedrockListenerFilter");
+
+    private static final ClassValue<Predicate<Event>> BEDROCK_EVENT = new ClassValue<>() {
+        @Override
+        protected Predicate<Event> computeValue(Class<?> eventType) {
+            if (EntityEvent.class.isAssignableFrom(eventType)) {
+                return event -> isBedrockPlayer(((EntityEvent) event).getEntity());
+            }
+
+            MethodHandle getPlayer;
+            try {
+                Method method = eventType.getMethod("getPlayer");
+                if (method.getParameterCount() != 0 || method.getReturnType().isPrimitive()) {
+                    return null;
+                }
+
+                getPlayer = MethodHandles.publicLookup().unreflect(method).asType(MethodType.methodType(Object.class, Event.class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                return null;
+            }
+
+            return event -> {
+                try {
+                    return isBedrockPlayer((Object) getPlayer.invokeExact(event));
+                } catch (Throwable e) {
+                    return false;
+                }
+            };
+        }
+    };
+
+    /**
+     * The classes currently taken off the bus by this filter, with the listeners registered in their place.
+     * Only these classes are ever registered on the bus again.
+     */
+    private static final Map<Class<?>, List<Consumer<? extends Event>>> WRAPPED = new HashMap<>();
+
+    private static List<String> skippedListeners = List.of();
+    private static boolean started;
+
+    /**
+     * Applies the skipped listeners from the given configuration. Classes that no longer
+     * have any skipped listener are put back on the bus as they were. Before the server
+     * starts the listeners are only remembered, since mods may still be registering theirs.
+     *
+     * @param config the configuration
+     */
+    public static synchronized void reload(@NotNull HydraulicConfig config) {
+        skippedListeners = List.copyOf(config.compatibility().skippedBedrockListeners());
+        if (started) {
+            apply();
+        }
+    }
+
+    /**
+     * Applies the skipped listeners once every mod has registered its listeners.
+     */
+    public static synchronized void start() {
+        started = true;
+        apply();
+    }
+
+    private static void apply() {
+        Map<String, Set<String>> skipped = new HashMap<>();
+        for (String entry : skippedListeners) {
+            int separator = entry.indexOf('#');
+            String className = separator < 0 ? entry : entry.substring(0, separator);
+            Set<String> methods = skipped.computeIfAbsent(className, name -> new HashSet<>());
+            methods.add(separator < 0 ? "*" : entry.substring(separator + 1));
+        }
+
+        IEventBus bus = NeoForge.EVENT_BUS;
+        for (Map.Entry<Class<?>, List<Consumer<? extends Event>>> wrapped : WRAPPED.entrySet()) {
+            wrapped.getValue().forEach(bus::unregister);
+            bus.register(wrapped.getKey());
+        }
+        WRAPPED.clear();
+
+        for (Map.Entry<String, Set<String>> entry : skipped.entrySet()) {
+            Class<?> listenerClass;
+            try {
+                listenerClass = Class.forName(entry.getKey(), false, BedrockListenerFilter.class.getClassLoader());
+            } catch (ClassNotFoundException | LinkageError e) {
+                // The mod is not installed
+                LOGGER.debug("BedrockListenerFilter: Listener class {} not found, skipping", entry.getKey());
+                continue;
+            }
+
+            wrap(bus, listenerClass, entry.getValue());
+        }
+    }
+
+    private static void wrap(IEventBus bus, Class<?> listenerClass, Set<String> skippedMethods) {
+        List<Method> methods = new ArrayList<>();
+        for (Method method : listenerClass.getDeclaredMethods()) {
+            if (method.isAnnotationPresent(SubscribeEvent.class) && Modifier.isStatic(method.getModifiers())
+                && method.getParameterCount() == 1 && Event.class.isAssignableFrom(method.getParameterTypes()[0])) {
+                methods.add(method);
+            }
+        }
+
+        if (methods.isEmpty()) {
+            LOGGER.warn("BedrockListenerFilter: {} has no static event listeners, it cannot be filtered", listenerClass.getName());
+            return;
+        }
+
+        // Unregistering a class that is not on the bus does nothing, re-registering its methods
+        // would then run them twice and for Bedrock players as well
+        if (!isEventBusSubscriber(listenerClass)) {
+            LOGGER.warn("BedrockListenerFilter: {} is not an @EventBusSubscriber on this side, it cannot be filtered", listenerClass.getName());
+            return;
+        }
+
+        try {
+            bus.unregister(listenerClass);
+        } catch (Exception e) {
+            LOGGER.warn("BedrockListenerFilter: Could not take {} off the event bus", listenerClass.getName(), e);
+            return;
+        }
+
+        List<Consumer<? extends Event>> listeners = new ArrayList<>();
+        for (Method method : methods) {
+            boolean skip = skippedMethods.contains("*") || skippedMethods.contains(method.getName());
+            try {
+                listeners.add(register(bus, method, skip));
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                LOGGER.warn("BedrockListenerFilter: Could not register {}#{} again: {}", listenerClass.getName(), method.getName(), e.getMessage());
+            }
+        }
+
+        WRAPPED.put(listenerClass, listeners);
+        LOGGER.info("BedrockListenerFilter: Filtering {} listeners of {} for Bedrock players", skippedMethods, listenerClass.getName());
+    }
+
+    /**
+     * Checks if FML registered the given class on the game bus, which it does for every
+     * class annotated with {@link EventBusSubscriber} for the side it is running on.
+     */
+    private static boolean isEventBusSubscriber(Class<?> listenerClass) {
+        EventBusSubscriber subscriber = listenerClass.getAnnotation(EventBusSubscriber.class);
+        return subscriber != null && Arrays.asList(subscriber.value()).contains(FMLEnvironment.dist);
+    }
+
+    private static boolean isBedrockPlayer(Object player) {
+        return player instanceof ServerPlayer serverPlayer && BedrockPlayerRegistry.isBedrockPlayer(serverPlayer.connection);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Event> Consumer<T> register(IEventBus bus, Method method, boolean skip) throws ReflectiveOperationException {
+        Class<T> eventType = (Class<T>) method.getParameterTypes()[0];
+        SubscribeEvent subscription = method.getAnnotation(SubscribeEvent.class);
+
+        method.setAccessible(true);
+        MethodHandle handle = MethodHandles.lookup().unreflect(method).asType(MethodType.methodType(void.class, Event.class));
+
+        Predicate<Event> bedrockEvent = skip ? BEDROCK_EVENT.get(eventType) : null;
+        if (skip && bedrockEvent == null) {
+            LOGGER.warn("BedrockListenerFilter: Cannot tell the player of {}, {}#{} keeps running for Bedrock players",
+                eventType.getSimpleName(), method.getDeclaringClass().getName(), method.getName());
+        }
+
+        String listenerName = method.getDeclaringClass().getSimpleName() + "#" + method.getName();
+        Consumer<T> listener = event -> {
+            if (bedrockEvent != null) {
+                long start = TickProfiler.begin();
+                boolean bedrock = bedrockEvent.test(event);
+                TickProfiler.end(start);
+                if (bedrock) {
+                    SuppressedEventLog.record("Mod event listeners skipped for Bedrock players", listenerName);
+                    return;
+                }
+            }
+
+            try {
+                handle.invokeExact((Event) event);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        };
+
+        bus.addListener(subscription.priority(), subscription.receiveCanceled(), eventType, listener);
+        return listener;
+    }
+}
@@ -0,0 +1,69 @@
+package org.geysermc.hydraulic.neoforge.mixin;
+
+import net.minecraft.network.Connection;
+import net.minecraft.network.protocol.configuration.ServerboundFinishConfigurationPacket;
+import net.minecraft.server.network.ServerConfigurationPacketListenerImpl;
+import org.geysermc.hydraulic.neoforge.configuration.BedrockConfigurationSession;
+import org.geysermc.hydraulic.neoforge.mixin.accessor.ServerCommonPacketListenerAccessor;
+import org.geysermc.hydraulic.neoforge.util.BedrockPlayerRegistry;
+import org.geysermc.hydraulic.neoforge.util.TickProfiler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * The single hook into the configuration task flow for Bedrock players, plus
+ * a notification once the configuration has been finished. All the actual
+ * work is done by the player's {@link BedrockConfigurationSession}.
+ */
+@Mixin(value = ServerConfigurationPacketListenerImpl.class)
+public class BedrockConfigurationMixin {
+    private static final Logger LOGGER = LoggerFactory.getLogger("BedrockConfigurationMixin");
+
+    /**
+     * Hands the configuration flow of Bedrock players over to their configuration session.
+     */
+    @Inject(
+        method = "startNextTask",
+        at = @At("HEAD"),
+        cancellable = true
+    )
+    private void driveBedrockConfiguration(CallbackInfo ci) {
+        long start = TickProfiler.begin();
+        try {
+            ServerConfigurationPacketListenerImpl self = (ServerConfigurationPacketListenerImpl) (Object) this;
+            Connection connection = ((ServerCommonPacketListenerAccessor) self).hydraulic$getConnection();
+            if (!BedrockPlayerRegistry.isBedrockPlayer(connection)) {
+                return;
+            }
+
+            BedrockConfigurationSession session = BedrockConfigurationSession.get(self);
+            if (session != null && session.onStartNextTask()) {
+                ci.cancel();
+            }
+        } catch (Exception e) {
+            // If there's any error, just let the normal flow continue for safety
+            LOGGER.debug("BedrockConfigurationMixin: Exception in configuration flow, allowing normal task flow: {}", e.getMessage());
+        } finally {
+            TickProfiler.end(start);
+        }
+    }
+
+    /**
+     * Lets the configuration session know the configuration has been finished,
+     * no matter if it was finished by the session or by the client.
+     */
+    @Inject(
+        method = "handleConfigurationFinished",
+        at = @At("TAIL")
+    )
+    private void onBedrockConfigurationFinished(ServerboundFinishConfigurationPacket packet, CallbackInfo ci) {
+        BedrockConfigurationSession session = BedrockConfigurationSession.find((ServerConfigurationPacketListenerImpl) (Object) this);
+        if (session != null) {
+            session.onConfigurationFinished();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package org.geysermc.hydraulic.neoforge.mixin;
+
+import net.minecraft.network.Connection;
+import net.minecraft.network.DisconnectionDetails;
+import net.minecraft.server.network.ServerCommonPacketListenerImpl;
+import org.geysermc.hydraulic.neoforge.configuration.BedrockConfigurationSession;
+import org.geysermc.hydraulic.neoforge.util.BedrockPlayerRegistry;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Evicts the Bedrock state of a connection from {@link BedrockPlayerRegistry}
+ * and closes its configuration session once the player disconnects,
+ * regardless of which phase they were in.
+ */
+@Mixin(value = ServerCommonPacketListenerImpl.class)
+public class BedrockSessionCleanupMixin {
+    @Shadow
+    @Final
+    protected Connection connection;
+
+    @Inject(
+        method = "onDisconnect",
+        at = @At("TAIL")
+    )
+    private void evictBedrockSession(DisconnectionDetails details, CallbackInfo ci) {
+        BedrockConfigurationSession.close(this.connection);
+        BedrockPlayerRegistry.unregister(this.connection);
+    }
+}
@@ -3,7 +3,8 @@ package org.geysermc.hydraulic.neoforge.mixin;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.network.ConfigurationTask;
 import net.minecraft.server.network.ServerConfigurationPacketListenerImpl;
-import org.geysermc.hydraulic.neoforge.util.BedrockDetectionHelper;
+import org.geysermc.hydraulic.neoforge.util.BedrockPlayerRegistry;
+import org.geysermc.hydraulic.neoforge.util.TickProfiler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.spongepowered.asm.mixin.Mixin;
@@ -28,40 +29,21 @@ public class ConfigSyncMixin {
         at = @At("TAIL")
     )
     private void onConfigurationInit(net.minecraft.server.MinecraftServer server, net.minecraft.network.Connection connection, net.minecraft.server.network.CommonListenerCookie cookie, CallbackInfo ci) {
+        long start = TickProfiler.begin();
         try {
-            // Try multiple ways to detect Bedrock players
-            boolean isBedrockFromGeyser = false;
-            boolean isBedrockFromFloodgate = false;
-            
-            try {
-                // Try Geyser API using reflection to avoid ClassNotFoundException
-                Class<?> geyserApiClass = Class.forName("org.geysermc.geyser.api.GeyserApi");
-                Object geyserApi = geyserApiClass.getMethod("api").invoke(null);
-                if (geyserApi != null) {
-                    Boolean result = (Boolean) geyserApiClass.getMethod("isBedrockPlayer", java.util.UUID.class)
-                        .invoke(geyserApi, cookie.gameProfile().getId());
-                    isBedrockFromGeyser = result != null && result;
-                }
-            } catch (Exception geyserException) {
-                LOGGER.debug("ConfigSyncMixin: Geyser check failed: {}", geyserException.getMessage());
-            }
-            
-            // Check if this is a Floodgate player (Bedrock players via Geyser/Floodgate start with a dot)
-            String playerName = cookie.gameProfile().getName();
-            if (playerName != null && playerName.startsWith(".")) {
-                isBedrockFromFloodgate = true;
-            }
-            
-            this.isBedrockPlayer = isBedrockFromGeyser || isBedrockFromFloodgate;
-            
-            LOGGER.info("ConfigSyncMixin: Configuration created for player {} (Bedrock: {} - Geyser: {}, Floodgate: {})", 
-                playerName, this.isBedrockPlayer, isBedrockFromGeyser, isBedrockFromFloodgate);
-            
+            // Identify the player once for this connection, every other mixin reads the result from the registry
+            this.isBedrockPlayer = BedrockPlayerRegistry.register(connection, cookie.gameProfile());
+
+            LOGGER.info("ConfigSyncMixin: Configuration created for player {} (Bedrock: {})",
+                cookie.gameProfile().getName(), this.isBedrockPlayer);
+
             if (this.isBedrockPlayer) {
                 LOGGER.info("ConfigSyncMixin: Detected Bedrock player - will bypass NeoForge checks");
             }
         } catch (Exception e) {
             LOGGER.warn("ConfigSyncMixin: Error in configuration init: {}", e.getMessage());
+        } finally {
+            TickProfiler.end(start);
         }
     }
 
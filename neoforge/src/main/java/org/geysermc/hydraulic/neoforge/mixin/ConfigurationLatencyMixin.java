@@ -0,0 +1,62 @@
+package org.geysermc.hydraulic.neoforge.mixin;
+
+import io.netty.channel.Channel;
+import net.minecraft.network.Connection;
+import net.minecraft.network.protocol.configuration.ServerboundFinishConfigurationPacket;
+import net.minecraft.server.network.ServerConfigurationPacketListenerImpl;
+import org.geysermc.hydraulic.neoforge.configuration.JoinLatency;
+import org.geysermc.hydraulic.neoforge.mixin.accessor.ServerCommonPacketListenerAccessor;
+import org.geysermc.hydraulic.neoforge.util.BedrockPlayerRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Measures the configuration phase of Java players, as a baseline for the
+ * Bedrock players measured by their configuration session.
+ */
+@Mixin(value = ServerConfigurationPacketListenerImpl.class)
+public class ConfigurationLatencyMixin {
+    private static final Logger LOGGER = LoggerFactory.getLogger("ConfigurationLatencyMixin");
+
+    /**
+     * Remembers when the configuration of a Java player started.
+     */
+    @Inject(
+        method = "startConfiguration",
+        at = @At("HEAD")
+    )
+    private void trackJavaConfigurationStart(CallbackInfo ci) {
+        try {
+            Connection connection = ((ServerCommonPacketListenerAccessor) this).hydraulic$getConnection();
+            Channel channel = connection.channel();
+            if (channel != null && !BedrockPlayerRegistry.isBedrockPlayer(connection)) {
+                channel.attr(JoinLatency.JAVA_START).set(System.nanoTime());
+            }
+        } catch (Exception e) {
+            LOGGER.debug("ConfigurationLatencyMixin: Exception in configuration start tracking: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Records how long the configuration of a Java player took.
+     */
+    @Inject(
+        method = "handleConfigurationFinished",
+        at = @At("TAIL")
+    )
+    private void trackJavaConfigurationFinished(ServerboundFinishConfigurationPacket packet, CallbackInfo ci) {
+        try {
+            Channel channel = ((ServerCommonPacketListenerAccessor) this).hydraulic$getConnection().channel();
+            Long startNanos = channel != null ? channel.attr(JoinLatency.JAVA_START).getAndSet(null) : null;
+            if (startNanos != null) {
+                JoinLatency.record(JoinLatency.Client.JAVA, JoinLatency.Path.CLIENT, JoinLatency.Stage.WORLD_ENTERED, System.nanoTime() - startNanos);
+            }
+        } catch (Exception e) {
+            LOGGER.debug("ConfigurationLatencyMixin: Exception in configuration finish tracking: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.geysermc.hydraulic.neoforge.mixin;
+
+import net.minecraft.network.Connection;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.network.ServerCommonPacketListenerImpl;
+import org.geysermc.hydraulic.neoforge.mixin.accessor.ServerCommonPacketListenerAccessor;
+import org.geysermc.hydraulic.neoforge.network.DisconnectPipeline;
+import org.geysermc.hydraulic.neoforge.util.TickProfiler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Hands every disconnect, at both the packet listener and the connection level,
+ * to the {@link DisconnectPipeline}, which decides if it is prevented.
+ */
+@Mixin(value = {ServerCommonPacketListenerImpl.class, Connection.class})
+public class DisconnectPipelineMixin {
+    private static final Logger LOGGER = LoggerFactory.getLogger("DisconnectPipelineMixin");
+
+    /**
+     * Runs the disconnect through the pipeline and cancels it if a rule prevents it.
+     */
+    @Inject(
+        method = "disconnect(Lnet/minecraft/network/chat/Component;)V",
+        at = @At("HEAD"),
+        cancellable = true
+    )
+    private void interceptDisconnect(Component reason, CallbackInfo ci) {
+        long start = TickProfiler.begin();
+        try {
+            if (reason == null) {
+                return;
+            }
+
+            Connection connection = (Object) this instanceof Connection self
+                ? self
+                : ((ServerCommonPacketListenerAccessor) this).hydraulic$getConnection();
+            if (DisconnectPipeline.intercept(connection, reason)) {
+                ci.cancel();
+            }
+        } catch (Exception e) {
+            LOGGER.debug("DisconnectPipelineMixin: Exception in disconnect interception: {}", e.getMessage());
+        } finally {
+            TickProfiler.end(start);
+        }
+    }
+}
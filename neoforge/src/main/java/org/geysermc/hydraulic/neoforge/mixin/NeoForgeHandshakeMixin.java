@@ -1,7 +1,7 @@
 package org.geysermc.hydraulic.neoforge.mixin;
 
 import net.minecraft.server.network.ServerConfigurationPacketListenerImpl;
-import org.geysermc.hydraulic.neoforge.util.BedrockDetectionHelper;
+import org.geysermc.hydraulic.neoforge.util.BedrockPlayerRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.spongepowered.asm.mixin.Mixin;
@@ -30,7 +30,7 @@ public class NeoForgeHandshakeMixin {
     private static void bypassHandshakeForBedrock(ServerConfigurationPacketListenerImpl listener, CallbackInfo ci) {
         try {
             if (listener != null && listener.getOwner() != null) {
-                boolean isBedrockPlayer = BedrockDetectionHelper.isBedrockPlayer(listener);
+                boolean isBedrockPlayer = BedrockPlayerRegistry.isBedrockPlayer(listener);
                 
                 if (isBedrockPlayer) {
                     LOGGER.info("NeoForgeHandshakeMixin: Bypassing NeoForge handshake for Bedrock player: {}", 
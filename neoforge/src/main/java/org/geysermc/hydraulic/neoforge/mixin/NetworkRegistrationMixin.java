@@ -1,13 +1,15 @@
 package org.geysermc.hydraulic.neoforge.mixin;
 
 import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.common.ClientboundCustomPayloadPacket;
 import net.minecraft.network.protocol.common.ServerCommonPacketListener;
 import net.minecraft.server.network.ServerConfigurationPacketListenerImpl;
-import org.geysermc.hydraulic.neoforge.util.BedrockDetectionHelper;
+import org.geysermc.hydraulic.neoforge.network.PacketMetrics;
+import org.geysermc.hydraulic.neoforge.network.PayloadFilterRules;
+import org.geysermc.hydraulic.neoforge.util.BedrockPlayerRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.spongepowered.asm.mixin.Mixin;
-import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
@@ -33,7 +35,7 @@ public class NetworkRegistrationMixin {
     private static void bypassNetworkRegistrationForBedrock(ServerConfigurationPacketListenerImpl listener, CallbackInfo ci) {
         try {
             if (listener != null && listener.getOwner() != null) {
-                boolean isBedrockPlayer = BedrockDetectionHelper.isBedrockPlayer(listener);
+                boolean isBedrockPlayer = BedrockPlayerRegistry.isBedrockPlayer(listener);
                 
                 if (isBedrockPlayer) {
                     LOGGER.info("NetworkRegistrationMixin: Bypassing NeoForge network registration for Bedrock player: {}", 
@@ -47,9 +49,8 @@ public class NetworkRegistrationMixin {
     }
 
     /**
-     * Intercepts packet validation to be more permissive for all players to prevent disconnections.
-     * Since we can't easily determine if it's a Bedrock player at this level, we'll be more lenient
-     * with packet validation to prevent any mod packet from causing disconnections.
+     * Intercepts packet validation to be more permissive with mod payloads to prevent disconnections.
+     * Which payloads are relaxed is configured in the Hydraulic config, see {@link PayloadFilterRules}.
      */
     @Inject(
         method = "checkPacket",
@@ -60,22 +61,11 @@ public class NetworkRegistrationMixin {
     )
     private static void relaxPacketValidation(Packet<?> packet, ServerCommonPacketListener listener, CallbackInfo ci) {
         try {
-            if (packet != null) {
-                String packetString = packet.toString();
-                
-                // Skip validation for known problematic mod packets
-                if (packetString.contains("wormhole:") || 
-                    packetString.contains("glitchcore:") ||
-                    packetString.contains("dcintegration:") ||
-                    packetString.contains("gun_core:") ||
-                    packetString.contains("modern_guns:") ||
-                    packetString.contains("supermartijn642") ||
-                    packetString.contains("CustomPayload")) {
-                    
-                    LOGGER.debug("NetworkRegistrationMixin: Relaxing validation for mod packet: {}", packetString);
-                    ci.cancel(); // Skip the strict validation that causes disconnections
-                    return;
-                }
+            // Skip validation for known problematic mod payloads
+            if (packet instanceof ClientboundCustomPayloadPacket customPacket
+                && PayloadFilterRules.current().matches(customPacket.payload().type().id())) {
+                PacketMetrics.record(PacketMetrics.Action.RELAXED, PacketMetrics.Phase.of(listener), packet);
+                ci.cancel(); // Skip the strict validation that causes disconnections
             }
         } catch (Exception e) {
             LOGGER.debug("NetworkRegistrationMixin: Exception in packet validation relaxation: {}", e.getMessage());
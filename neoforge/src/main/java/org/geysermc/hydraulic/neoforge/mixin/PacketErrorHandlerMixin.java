@@ -1,7 +1,9 @@
 package org.geysermc.hydraulic.neoforge.mixin;
 
 import net.minecraft.server.network.ServerCommonPacketListenerImpl;
-import org.geysermc.hydraulic.neoforge.util.BedrockDetectionHelper;
+import org.geysermc.hydraulic.neoforge.network.PacketMetrics;
+import org.geysermc.hydraulic.neoforge.util.BedrockPlayerRegistry;
+import org.geysermc.hydraulic.neoforge.util.SuppressedEventLog;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.spongepowered.asm.mixin.Mixin;
@@ -28,38 +30,28 @@ public class PacketErrorHandlerMixin {
     private void preventPacketErrorDisconnectForBedrock(net.minecraft.network.protocol.Packet<?> packet, Exception exception, CallbackInfo ci) {
         try {
             ServerCommonPacketListenerImpl self = (ServerCommonPacketListenerImpl) (Object) this;
-            
-            // Check if this is a Bedrock player
-            boolean isBedrockPlayer = false;
-            String playerName = null;
-            
-            if (self instanceof net.minecraft.server.network.ServerConfigurationPacketListenerImpl configListener) {
-                isBedrockPlayer = BedrockDetectionHelper.isBedrockPlayer(configListener);
-                if (configListener.getOwner() != null) {
-                    playerName = configListener.getOwner().getName();
-                }
-            } else if (self instanceof net.minecraft.server.network.ServerGamePacketListenerImpl gameListener) {
-                if (gameListener.player != null) {
-                    playerName = gameListener.player.getGameProfile().getName();
-                    isBedrockPlayer = BedrockDetectionHelper.isFloodgatePlayer(playerName);
-                }
+            if (!BedrockPlayerRegistry.isBedrockPlayer(self)) {
+                return;
             }
-            
-            if (isBedrockPlayer) {
-                // Check if the packet is null or the exception is related to custom packets that Bedrock clients can't handle
-                String errorMessage = exception != null ? exception.getMessage() : "null";
-                
-                if (packet == null || 
-                    (errorMessage != null && (errorMessage.contains("may not be sent to the client") || 
-                                            errorMessage.contains("UnsupportedOperationException") ||
-                                            errorMessage.contains("Payload") ||
-                                            errorMessage.contains("null")))) {
-                    
-                    LOGGER.debug("PacketErrorHandlerMixin: Preventing packet error for Bedrock player: {} (Packet: {}, Error: {})", 
+
+            // Check if the packet is null or the exception is related to custom packets that Bedrock clients can't handle
+            String errorMessage = exception != null ? exception.getMessage() : "null";
+
+            if (packet == null ||
+                (errorMessage != null && (errorMessage.contains("may not be sent to the client") ||
+                                        errorMessage.contains("UnsupportedOperationException") ||
+                                        errorMessage.contains("Payload") ||
+                                        errorMessage.contains("null")))) {
+
+                String playerName = self.getOwner() != null ? self.getOwner().getName() : null;
+                if (SuppressedEventLog.isTraceEnabled()) {
+                    LOGGER.info("PacketErrorHandlerMixin: Preventing packet error for Bedrock player: {} (Packet: {}, Error: {})",
                         playerName, packet != null ? packet.getClass().getSimpleName() : "null", errorMessage);
-                    ci.cancel(); // Don't let the packet error cause a disconnect
-                    return;
                 }
+                SuppressedEventLog.record("packet errors suppressed for Bedrock players", playerName);
+                PacketMetrics.record(PacketMetrics.Action.ERROR_SUPPRESSED, PacketMetrics.Phase.of(self), packet);
+
+                ci.cancel(); // Don't let the packet error cause a disconnect
             }
         } catch (Exception e) {
             LOGGER.debug("PacketErrorHandlerMixin: Exception in packet error handling: {}", e.getMessage());
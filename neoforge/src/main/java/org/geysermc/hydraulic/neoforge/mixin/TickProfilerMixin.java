@@ -0,0 +1,24 @@
+package org.geysermc.hydraulic.neoforge.mixin;
+
+import net.minecraft.server.MinecraftServer;
+import org.geysermc.hydraulic.neoforge.util.TickProfiler;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Marks the start and end of every server tick for the {@link TickProfiler}.
+ */
+@Mixin(MinecraftServer.class)
+public class TickProfilerMixin {
+    @Inject(method = "tickServer", at = @At("HEAD"))
+    private void startTick(CallbackInfo ci) {
+        TickProfiler.startTick();
+    }
+
+    @Inject(method = "tickServer", at = @At("TAIL"))
+    private void endTick(CallbackInfo ci) {
+        TickProfiler.endTick();
+    }
+}
@@ -0,0 +1,16 @@
+package org.geysermc.hydraulic.neoforge.mixin.accessor;
+
+import net.minecraft.network.Connection;
+import net.minecraft.server.network.ServerCommonPacketListenerImpl;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+/**
+ * Exposes the {@link Connection} of a packet listener so the Bedrock
+ * state of a player can be read from any listener phase.
+ */
+@Mixin(ServerCommonPacketListenerImpl.class)
+public interface ServerCommonPacketListenerAccessor {
+    @Accessor("connection")
+    Connection hydraulic$getConnection();
+}
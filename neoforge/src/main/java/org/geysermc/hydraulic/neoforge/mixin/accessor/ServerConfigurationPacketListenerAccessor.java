@@ -0,0 +1,30 @@
+package org.geysermc.hydraulic.neoforge.mixin.accessor;
+
+import net.minecraft.server.network.ConfigurationTask;
+import net.minecraft.server.network.ServerConfigurationPacketListenerImpl;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+import org.spongepowered.asm.mixin.gen.Invoker;
+
+import java.util.Queue;
+
+/**
+ * Exposes the configuration task internals of a configuration listener.
+ * <p>
+ * These are bound when the mixin is applied, so a member that is missing
+ * in the running Minecraft version fails at startup instead of on every join.
+ */
+@Mixin(ServerConfigurationPacketListenerImpl.class)
+public interface ServerConfigurationPacketListenerAccessor {
+    @Accessor("configurationTasks")
+    Queue<ConfigurationTask> hydraulic$getConfigurationTasks();
+
+    @Accessor("currentTask")
+    ConfigurationTask hydraulic$getCurrentTask();
+
+    @Accessor("currentTask")
+    void hydraulic$setCurrentTask(ConfigurationTask task);
+
+    @Invoker("startNextTask")
+    void hydraulic$startNextTask();
+}
@@ -0,0 +1,217 @@
+package org.geysermc.hydraulic.neoforge.network;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.ChannelPromise;
+import net.minecraft.network.Connection;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.common.ClientboundCustomPayloadPacket;
+import net.minecraft.network.protocol.common.custom.BrandPayload;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.network.protocol.configuration.ClientboundFinishConfigurationPacket;
+import net.minecraft.network.protocol.configuration.ClientboundSelectKnownPacks;
+import net.minecraft.network.protocol.configuration.ClientboundUpdateEnabledFeaturesPacket;
+import net.minecraft.resources.ResourceLocation;
+import org.geysermc.hydraulic.neoforge.util.SuppressedEventLog;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Outbound handler that is only added to the pipeline of Bedrock players.
+ * <p>
+ * It drops packets that Geyser cannot translate and that would otherwise
+ * cause pipeline errors, such as the brand payload, configuration packets
+ * Bedrock has no equivalent for and modded payloads. Modded payloads listed in
+ * {@code network.bedrockPayloads}, by default the Floodgate and Geyser channels,
+ * are still sent. Java players never
+ * have this handler in their pipeline, so they pay nothing for it.
+ */
+public class BedrockPacketFilter extends ChannelOutboundHandlerAdapter {
+    private static final Logger LOGGER = LoggerFactory.getLogger("BedrockPacketFilter");
+
+    /**
+     * The name of the handler in the channel pipeline.
+     */
+    public static final String NAME = "hydraulic_bedrock_filter";
+
+    private static final String PACKET_HANDLER = "packet_handler";
+
+    /**
+     * Per packet class filter decisions, computed once so the send path
+     * is a single lookup without any string work.
+     */
+    private static final ClassValue<Decision> DECISIONS = new ClassValue<>() {
+        @Override
+        protected Decision computeValue(Class<?> type) {
+            return decide(type);
+        }
+    };
+
+    /**
+     * Per namespace payload decisions for the active {@link PayloadFilterRules#bedrock() rules},
+     * computed once so most payloads are a single lookup. Replaced when the rules are reloaded.
+     */
+    private static volatile NamespaceVerdicts namespaceVerdicts = new NamespaceVerdicts(PayloadFilterRules.bedrock(), new ConcurrentHashMap<>());
+
+    private final Connection connection;
+    private final String playerName;
+
+    private BedrockPacketFilter(Connection connection, String playerName) {
+        this.connection = connection;
+        this.playerName = playerName;
+    }
+
+    /**
+     * Adds the filter to the pipeline of the given connection if it is not present yet.
+     *
+     * @param connection the connection of the Bedrock player
+     * @param playerName the name of the player, used for logging
+     */
+    public static void install(@NotNull Connection connection, String playerName) {
+        Channel channel = connection.channel();
+        if (channel == null) {
+            return;
+        }
+
+        ChannelPipeline pipeline = channel.pipeline();
+        if (pipeline.get(NAME) != null) {
+            return;
+        }
+
+        // Sit in front of the packet handler so we still see packet objects, not encoded buffers
+        if (pipeline.get(PACKET_HANDLER) != null) {
+            pipeline.addBefore(PACKET_HANDLER, NAME, new BedrockPacketFilter(connection, playerName));
+        } else {
+            pipeline.addLast(NAME, new BedrockPacketFilter(connection, playerName));
+        }
+
+        LOGGER.debug("BedrockPacketFilter: Installed packet filter for Bedrock player: {}", playerName);
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (msg instanceof Packet<?> packet && shouldDrop(packet)) {
+            if (SuppressedEventLog.isTraceEnabled()) {
+                LOGGER.info("BedrockPacketFilter: Preventing {} from being sent to Bedrock player: {}",
+                    describe(packet), this.playerName);
+            }
+            SuppressedEventLog.record("packets dropped for Bedrock players", this.playerName);
+            PacketMetrics.record(PacketMetrics.Action.DROPPED, PacketMetrics.Phase.of(this.connection), packet);
+
+            // Complete the write so listeners waiting on it are not left hanging
+            promise.trySuccess();
+            return;
+        }
+
+        super.write(ctx, msg, promise);
+    }
+
+    /**
+     * Checks if the given packet must not be sent to a Bedrock player.
+     *
+     * @param packet the packet to check
+     * @return if the packet should be dropped
+     */
+    static boolean shouldDrop(@NotNull Packet<?> packet) {
+        return switch (DECISIONS.get(packet.getClass())) {
+            case ALLOW -> false;
+            case DROP -> true;
+            case INSPECT_PAYLOAD -> shouldDropPayload(((ClientboundCustomPayloadPacket) packet).payload());
+        };
+    }
+
+    private static boolean shouldDropPayload(CustomPacketPayload payload) {
+        // Custom payloads are only a problem if they are the brand or come from a mod
+        if (payload instanceof BrandPayload) {
+            return true;
+        }
+
+        ResourceLocation payloadId = payload.type().id();
+        String namespace = payloadId.getNamespace();
+        if (ResourceLocation.DEFAULT_NAMESPACE.equals(namespace)) {
+            return false;
+        }
+
+        // Modded payloads Geyser handles itself, such as the Floodgate channels, are still sent
+        PayloadFilterRules rules = PayloadFilterRules.bedrock();
+        NamespaceVerdicts verdicts = namespaceVerdicts;
+        if (verdicts.rules() != rules) {
+            verdicts = new NamespaceVerdicts(rules, new ConcurrentHashMap<>());
+            namespaceVerdicts = verdicts;
+        }
+
+        boolean allowed = verdicts.allowed().computeIfAbsent(namespace, rules::matchesNamespace) || rules.matches(payloadId);
+        return !allowed;
+    }
+
+    /**
+     * Works out what to do with a packet class. This only runs
+     * once per class, the result is cached in {@link #DECISIONS}.
+     *
+     * @param packetClass the packet class
+     * @return the decision for packets of this class
+     */
+    private static Decision decide(Class<?> packetClass) {
+        if (ClientboundCustomPayloadPacket.class.isAssignableFrom(packetClass)) {
+            return Decision.INSPECT_PAYLOAD;
+        }
+
+        // Geyser/Floodgate does not know how to translate these
+        if (ClientboundFinishConfigurationPacket.class.isAssignableFrom(packetClass)
+            || ClientboundUpdateEnabledFeaturesPacket.class.isAssignableFrom(packetClass)
+            || ClientboundSelectKnownPacks.class.isAssignableFrom(packetClass)) {
+            return Decision.DROP;
+        }
+
+        // Anything that is not a vanilla play/common/configuration packet comes from a mod
+        String packetType = packetClass.getName();
+        if (!packetType.startsWith("net.minecraft.network.protocol.game")
+            && !packetType.startsWith("net.minecraft.network.protocol.common")
+            && !packetType.startsWith("net.minecraft.network.protocol.configuration")) {
+            return Decision.DROP;
+        }
+
+        return Decision.ALLOW;
+    }
+
+    private static String describe(Packet<?> packet) {
+        if (packet instanceof ClientboundCustomPayloadPacket customPacket) {
+            return "payload " + customPacket.payload().type().id();
+        }
+
+        return packet.getClass().getSimpleName();
+    }
+
+    /**
+     * The cached namespace decisions of a set of rules.
+     *
+     * @param rules the rules the decisions were made with
+     * @param allowed if the payloads of a namespace are sent to Bedrock players, by namespace
+     */
+    private record NamespaceVerdicts(PayloadFilterRules rules, Map<String, Boolean> allowed) {
+    }
+
+    /**
+     * What the filter does with packets of a given class.
+     */
+    enum Decision {
+        /**
+         * The packet is always sent.
+         */
+        ALLOW,
+        /**
+         * The packet is never sent to Bedrock players.
+         */
+        DROP,
+        /**
+         * The packet is a custom payload and the payload decides.
+         */
+        INSPECT_PAYLOAD
+    }
+}
@@ -0,0 +1,146 @@
+package org.geysermc.hydraulic.neoforge.network;
+
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.ComponentContents;
+import net.minecraft.network.chat.contents.PlainTextContents;
+import net.minecraft.network.chat.contents.TranslatableContents;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Works out why a connection is being disconnected.
+ * <p>
+ * The reason component is classified by the translation keys and arguments in
+ * its tree, which do not depend on the server language. Only literal text,
+ * which is never translated, is checked against the known English messages.
+ * Classifying has no side effects, the verdict is cached by the
+ * {@link DisconnectContext} the {@link DisconnectPipeline} keeps per connection.
+ */
+public class DisconnectClassifier {
+    /**
+     * Prefix of the translation keys NeoForge uses when a client fails the network negotiation.
+     */
+    private static final String NEGOTIATION_FAILURE_PREFIX = "neoforge.network.negotiation.failure.";
+
+    /**
+     * The vanilla "Incompatible client! Please use %s" message, NeoForge passes its name and version.
+     */
+    private static final String INCOMPATIBLE_KEY = "multiplayer.disconnect.incompatible";
+
+    private static final String NEOFORGE = "NeoForge";
+
+    /**
+     * Classifies the given disconnect reason.
+     *
+     * @param reason the disconnect reason
+     * @return the verdict
+     */
+    @NotNull
+    public static Verdict classify(@NotNull Component reason) {
+        Verdict verdict = Verdict.OTHER;
+        ComponentContents contents = reason.getContents();
+        if (contents instanceof TranslatableContents translatable) {
+            verdict = classify(translatable);
+        } else if (contents instanceof PlainTextContents plainText) {
+            verdict = classifyLiteral(plainText.text());
+        }
+
+        for (Component sibling : reason.getSiblings()) {
+            if (verdict.requiresNeoForge()) {
+                break;
+            }
+
+            verdict = stronger(verdict, classify(sibling));
+        }
+
+        return verdict;
+    }
+
+    private static Verdict classify(TranslatableContents translatable) {
+        String key = translatable.getKey();
+        if (key.startsWith(NEGOTIATION_FAILURE_PREFIX)) {
+            return Verdict.NEOFORGE_MISSING;
+        }
+
+        if (key.equals(INCOMPATIBLE_KEY)) {
+            for (Object arg : translatable.getArgs()) {
+                // The argument is the brand name and version, which is not translated
+                String text = arg instanceof Component component ? component.getString() : String.valueOf(arg);
+                if (text.contains(NEOFORGE)) {
+                    return Verdict.NEOFORGE_INCOMPATIBLE;
+                }
+            }
+
+            return Verdict.INCOMPATIBLE_CLIENT;
+        }
+
+        Verdict verdict = Verdict.OTHER;
+        for (Object arg : translatable.getArgs()) {
+            if (arg instanceof Component component) {
+                verdict = stronger(verdict, classify(component));
+            }
+        }
+
+        return verdict;
+    }
+
+    private static Verdict classifyLiteral(String text) {
+        if (text.contains("trying to connect to a server that is running NeoForge")
+            || text.contains("Please install NeoForge")) {
+            return Verdict.NEOFORGE_MISSING;
+        }
+
+        if (text.contains("Incompatible client")) {
+            return text.contains("Please use NeoForge") ? Verdict.NEOFORGE_INCOMPATIBLE : Verdict.INCOMPATIBLE_CLIENT;
+        }
+
+        if (text.contains("Please use NeoForge")) {
+            return Verdict.NEOFORGE_INCOMPATIBLE;
+        }
+
+        return Verdict.OTHER;
+    }
+
+    private static Verdict stronger(Verdict first, Verdict second) {
+        return first.ordinal() <= second.ordinal() ? first : second;
+    }
+
+    /**
+     * Why a connection is being disconnected, strongest first.
+     */
+    public enum Verdict {
+        /**
+         * The client failed the NeoForge network negotiation because it is not running NeoForge.
+         */
+        NEOFORGE_MISSING,
+        /**
+         * The client was told it is incompatible and should use NeoForge.
+         */
+        NEOFORGE_INCOMPATIBLE,
+        /**
+         * The client was told it is incompatible, without mentioning NeoForge.
+         */
+        INCOMPATIBLE_CLIENT,
+        /**
+         * Any other disconnect, which Hydraulic never interferes with.
+         */
+        OTHER;
+
+        /**
+         * Gets if the disconnect happens because the client is not running NeoForge.
+         *
+         * @return if the client is kicked for not running NeoForge
+         */
+        public boolean requiresNeoForge() {
+            return this == NEOFORGE_MISSING || this == NEOFORGE_INCOMPATIBLE;
+        }
+
+        /**
+         * Gets if the client was told it is incompatible with the server.
+         *
+         * @return if this is an incompatible client disconnect
+         */
+        public boolean incompatibleClient() {
+            return this == NEOFORGE_INCOMPATIBLE || this == INCOMPATIBLE_CLIENT;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.geysermc.hydraulic.neoforge.network;
+
+import net.minecraft.network.Connection;
+import net.minecraft.network.PacketListener;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.network.ServerCommonPacketListenerImpl;
+import net.minecraft.server.network.ServerConfigurationPacketListenerImpl;
+import net.minecraft.server.network.ServerGamePacketListenerImpl;
+import org.geysermc.hydraulic.neoforge.util.BedrockPlayerRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Everything the {@link DisconnectPipeline} rules need to know about a single
+ * disconnect, worked out once when the disconnect is first intercepted. A context
+ * holds no outcome, so it can safely be reused for a later disconnect with the same
+ * reason and packet listener.
+ */
+public class DisconnectContext {
+    private final Connection connection;
+    private final Component reason;
+    private final DisconnectClassifier.Verdict verdict;
+    private final PacketListener listener;
+    private final boolean bedrockPlayer;
+    private final String playerName;
+
+    DisconnectContext(@NotNull Connection connection, @NotNull Component reason) {
+        this.connection = connection;
+        this.reason = reason;
+        this.verdict = DisconnectClassifier.classify(reason);
+        this.listener = connection.getPacketListener();
+
+        // Ordinary disconnects never reach the rules, so skip the player lookups for them
+        boolean relevant = this.verdict != DisconnectClassifier.Verdict.OTHER;
+        this.bedrockPlayer = relevant && BedrockPlayerRegistry.isBedrockPlayer(connection);
+        this.playerName = relevant ? playerName(this.listener) : null;
+    }
+
+    /**
+     * Gets the connection being disconnected.
+     *
+     * @return the connection
+     */
+    @NotNull
+    public Connection connection() {
+        return this.connection;
+    }
+
+    /**
+     * Gets the disconnect reason.
+     *
+     * @return the reason
+     */
+    @NotNull
+    public Component reason() {
+        return this.reason;
+    }
+
+    /**
+     * Gets why the connection is being disconnected.
+     *
+     * @return the verdict of the {@link DisconnectClassifier}
+     */
+    @NotNull
+    public DisconnectClassifier.Verdict verdict() {
+        return this.verdict;
+    }
+
+    /**
+     * Gets the packet listener of the connection at the time of the disconnect.
+     *
+     * @return the packet listener, or null if the connection has none
+     */
+    @Nullable
+    public PacketListener listener() {
+        return this.listener;
+    }
+
+    /**
+     * Gets if the connection is in the configuration phase.
+     *
+     * @return if the connection is being configured
+     */
+    public boolean configuring() {
+        return this.listener instanceof ServerConfigurationPacketListenerImpl;
+    }
+
+    /**
+     * Gets if the connection has a player in the world.
+     *
+     * @return if the connection is in the game phase
+     */
+    public boolean playing() {
+        return this.listener instanceof ServerGamePacketListenerImpl gameListener && gameListener.player != null;
+    }
+
+    /**
+     * Gets if the connection belongs to a Bedrock player.
+     *
+     * @return if the player is a Bedrock player
+     */
+    public boolean bedrockPlayer() {
+        return this.bedrockPlayer;
+    }
+
+    /**
+     * Gets the name of the player being disconnected.
+     *
+     * @return the player name, or null if the player is not known yet
+     */
+    @Nullable
+    public String playerName() {
+        return this.playerName;
+    }
+
+    private static String playerName(PacketListener listener) {
+        if (listener instanceof ServerGamePacketListenerImpl gameListener && gameListener.player != null) {
+            return gameListener.player.getGameProfile().getName();
+        }
+
+        if (listener instanceof ServerCommonPacketListenerImpl commonListener && commonListener.getOwner() != null) {
+            return commonListener.getOwner().getName();
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,204 @@
+package org.geysermc.hydraulic.neoforge.network;
+
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+import net.minecraft.network.Connection;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.network.ServerConfigurationPacketListenerImpl;
+import org.geysermc.hydraulic.neoforge.mixin.accessor.ServerConfigurationPacketListenerAccessor;
+import org.geysermc.hydraulic.neoforge.util.SuppressedEventLog;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The single place that decides if a disconnect of a Bedrock player is prevented.
+ * <p>
+ * A kick can pass through several layers, the packet listener and then the
+ * connection itself. Every layer hands the disconnect to {@link #intercept},
+ * which runs the rules in order until one prevents the disconnect. The
+ * {@link DisconnectContext} the rules read is cached on the channel, so later
+ * layers that see the same reason while the connection has the same packet
+ * listener do not classify it or look the player up again. The outcome itself
+ * is not cached, every call runs the rules. Disconnects the
+ * {@link DisconnectClassifier} does not recognise skip the rules entirely.
+ * <p>
+ * How often each rule was evaluated and fired, and the time spent in it, is
+ * available through {@link #stats()}.
+ */
+public class DisconnectPipeline {
+    private static final Logger LOGGER = LoggerFactory.getLogger("DisconnectPipeline");
+
+    /**
+     * Channel attribute holding the context of the last disconnect of a connection.
+     */
+    private static final AttributeKey<DisconnectContext> CONTEXT = AttributeKey.valueOf("hydraulic:disconnect_context");
+
+    private static final List<RegisteredRule> RULES = new ArrayList<>();
+
+    static {
+        register("neoforge-configuration", DisconnectPipeline::preventConfigurationKick);
+        register("neoforge-game", DisconnectPipeline::preventGameKick);
+        register("incompatible-client-fallback", DisconnectPipeline::preventIncompatibleClient);
+    }
+
+    /**
+     * Runs the given disconnect through the pipeline.
+     *
+     * @param connection the connection being disconnected
+     * @param reason the disconnect reason
+     * @return if the disconnect should be prevented
+     */
+    public static boolean intercept(@NotNull Connection connection, @NotNull Component reason) {
+        DisconnectContext context = context(connection, reason);
+        return context.verdict() != DisconnectClassifier.Verdict.OTHER && run(context);
+    }
+
+    /**
+     * Gets the statistics of every rule, in the order they run.
+     *
+     * @return the rule statistics
+     */
+    @NotNull
+    public static List<RuleStats> stats() {
+        List<RuleStats> stats = new ArrayList<>(RULES.size());
+        for (RegisteredRule rule : RULES) {
+            stats.add(new RuleStats(rule.name, rule.evaluated.sum(), rule.fired.sum(), rule.nanos.sum()));
+        }
+
+        return stats;
+    }
+
+    /**
+     * Resets the statistics of every rule.
+     */
+    public static void resetStats() {
+        for (RegisteredRule rule : RULES) {
+            rule.evaluated.reset();
+            rule.fired.reset();
+            rule.nanos.reset();
+        }
+    }
+
+    private static void register(String name, Rule rule) {
+        RULES.add(new RegisteredRule(name, rule));
+    }
+
+    private static DisconnectContext context(Connection connection, Component reason) {
+        Channel channel = connection.channel();
+        if (channel == null) {
+            return new DisconnectContext(connection, reason);
+        }
+
+        DisconnectContext context = channel.attr(CONTEXT).get();
+        if (context == null || context.reason() != reason || context.listener() != connection.getPacketListener()) {
+            context = new DisconnectContext(connection, reason);
+            channel.attr(CONTEXT).set(context);
+        }
+
+        return context;
+    }
+
+    private static boolean run(DisconnectContext context) {
+        for (RegisteredRule registered : RULES) {
+            long start = System.nanoTime();
+            boolean fired;
+            try {
+                fired = registered.rule.prevent(context);
+            } catch (Exception e) {
+                LOGGER.debug("DisconnectPipeline: Rule {} failed: {}", registered.name, e.getMessage());
+                fired = false;
+            }
+            registered.nanos.add(System.nanoTime() - start);
+            registered.evaluated.increment();
+
+            if (fired) {
+                registered.fired.increment();
+                if (SuppressedEventLog.isTraceEnabled()) {
+                    LOGGER.info("DisconnectPipeline: {} prevented disconnect of {} ({}, Message: {})",
+                        registered.name, context.playerName(), context.verdict(), context.reason().getString());
+                }
+                SuppressedEventLog.record("NeoForge disconnects prevented for Bedrock players", context.playerName());
+                return true;
+            }
+        }
+
+        LOGGER.debug("DisconnectPipeline: Allowing {} disconnect of {} (Bedrock: {})",
+            context.verdict(), context.playerName(), context.bedrockPlayer());
+        return false;
+    }
+
+    /**
+     * Bedrock players cannot run NeoForge, so its negotiation kicks them during configuration.
+     * The configuration itself is finished by the player's configuration session, at most the
+     * task flow is started again if the kick left it without a current task.
+     */
+    private static boolean preventConfigurationKick(DisconnectContext context) {
+        if (!context.bedrockPlayer() || !context.configuring() || !context.verdict().requiresNeoForge()) {
+            return false;
+        }
+
+        ServerConfigurationPacketListenerAccessor accessor = (ServerConfigurationPacketListenerAccessor) (ServerConfigurationPacketListenerImpl) context.listener();
+        if (accessor.hydraulic$getCurrentTask() == null) {
+            accessor.hydraulic$startNextTask();
+        }
+
+        return true;
+    }
+
+    /**
+     * NeoForge can also kick Bedrock players once they are in the world.
+     */
+    private static boolean preventGameKick(DisconnectContext context) {
+        return context.bedrockPlayer() && context.playing();
+    }
+
+    /**
+     * Keeps incompatible client kicks of Bedrock players from going through in any other phase.
+     */
+    private static boolean preventIncompatibleClient(DisconnectContext context) {
+        return context.bedrockPlayer() && context.listener() != null && context.verdict().incompatibleClient();
+    }
+
+    /**
+     * A step of the pipeline.
+     */
+    @FunctionalInterface
+    private interface Rule {
+        /**
+         * Decides if the disconnect should be prevented.
+         *
+         * @param context the disconnect
+         * @return if the disconnect is prevented, which stops the pipeline
+         */
+        boolean prevent(DisconnectContext context);
+    }
+
+    private static class RegisteredRule {
+        private final String name;
+        private final Rule rule;
+        private final LongAdder evaluated = new LongAdder();
+        private final LongAdder fired = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        private RegisteredRule(String name, Rule rule) {
+            this.name = name;
+            this.rule = rule;
+        }
+    }
+
+    /**
+     * The statistics of a single rule.
+     *
+     * @param name the name of the rule
+     * @param evaluated how often the rule was evaluated
+     * @param fired how often the rule prevented a disconnect
+     * @param totalNanos the total time spent in the rule
+     */
+    public record RuleStats(String name, long evaluated, long fired, long totalNanos) {
+    }
+}
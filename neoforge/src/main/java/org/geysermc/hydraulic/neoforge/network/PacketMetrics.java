@@ -0,0 +1,165 @@
+package org.geysermc.hydraulic.neoforge.network;
+
+import net.minecraft.network.Connection;
+import net.minecraft.network.ConnectionProtocol;
+import net.minecraft.network.PacketListener;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.common.ClientboundCustomPayloadPacket;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for everything Hydraulic filters for Bedrock players.
+ * <p>
+ * Counters are kept per action and phase, keyed by the payload id for custom
+ * payloads and by the packet class for everything else. Recording only does a
+ * map lookup and a {@link LongAdder} increment, so it is cheap enough to call
+ * from the network threads for every packet. Use {@link #snapshot()} to read them.
+ */
+public class PacketMetrics {
+    private static final Object UNKNOWN_PACKET = "unknown";
+
+    @SuppressWarnings("unchecked")
+    private static final Map<Object, LongAdder>[][] COUNTERS = new Map[Action.values().length][Phase.values().length];
+
+    static {
+        for (Action action : Action.values()) {
+            for (Phase phase : Phase.values()) {
+                COUNTERS[action.ordinal()][phase.ordinal()] = new ConcurrentHashMap<>();
+            }
+        }
+    }
+
+    /**
+     * Records an action taken on a packet.
+     *
+     * @param action the action taken
+     * @param phase the phase the connection was in
+     * @param packet the packet, or null if it is not known
+     */
+    public static void record(@NotNull Action action, @NotNull Phase phase, @Nullable Packet<?> packet) {
+        Object key;
+        if (packet instanceof ClientboundCustomPayloadPacket customPacket) {
+            key = customPacket.payload().type().id();
+        } else if (packet != null) {
+            key = packet.getClass();
+        } else {
+            key = UNKNOWN_PACKET;
+        }
+
+        COUNTERS[action.ordinal()][phase.ordinal()]
+            .computeIfAbsent(key, k -> new LongAdder())
+            .increment();
+    }
+
+    /**
+     * Takes a snapshot of all non-zero counters, ordered from highest to lowest count.
+     * <p>
+     * Counters keep running while the snapshot is taken, so the counts
+     * of different entries are not guaranteed to be from the same instant.
+     *
+     * @return the counters
+     */
+    @NotNull
+    public static List<Entry> snapshot() {
+        List<Entry> entries = new ArrayList<>();
+        for (Action action : Action.values()) {
+            for (Phase phase : Phase.values()) {
+                for (Map.Entry<Object, LongAdder> counter : COUNTERS[action.ordinal()][phase.ordinal()].entrySet()) {
+                    long count = counter.getValue().sum();
+                    if (count > 0) {
+                        entries.add(new Entry(action, phase, describe(counter.getKey()), count));
+                    }
+                }
+            }
+        }
+
+        entries.sort(Comparator.comparingLong(Entry::count).reversed());
+        return entries;
+    }
+
+    /**
+     * Resets all counters.
+     */
+    public static void reset() {
+        for (Map<Object, LongAdder>[] byPhase : COUNTERS) {
+            for (Map<Object, LongAdder> counters : byPhase) {
+                counters.clear();
+            }
+        }
+    }
+
+    private static String describe(Object key) {
+        if (key instanceof Class<?> packetClass) {
+            return packetClass.getSimpleName();
+        }
+
+        return key.toString();
+    }
+
+    /**
+     * An action Hydraulic takes on a packet for a Bedrock player.
+     */
+    public enum Action {
+        /**
+         * The packet was not sent to the Bedrock player.
+         */
+        DROPPED,
+        /**
+         * NeoForge's payload validation was skipped for the packet, so it was sent as-is.
+         */
+        RELAXED,
+        /**
+         * An error while handling the packet was kept from disconnecting the Bedrock player.
+         */
+        ERROR_SUPPRESSED
+    }
+
+    /**
+     * The phase a connection is in.
+     */
+    public enum Phase {
+        CONFIGURATION,
+        GAME;
+
+        /**
+         * Gets the phase of the given connection.
+         *
+         * @param connection the connection
+         * @return the phase of the connection
+         */
+        @NotNull
+        public static Phase of(@NotNull Connection connection) {
+            return of(connection.getPacketListener());
+        }
+
+        /**
+         * Gets the phase of the given packet listener.
+         *
+         * @param listener the packet listener
+         * @return the phase of the packet listener
+         */
+        @NotNull
+        public static Phase of(@Nullable PacketListener listener) {
+            return listener != null && listener.protocol() == ConnectionProtocol.CONFIGURATION ? CONFIGURATION : GAME;
+        }
+    }
+
+    /**
+     * A single counter in a {@link #snapshot()}.
+     *
+     * @param action the action taken
+     * @param phase the phase the connection was in
+     * @param packet the payload id or packet class name
+     * @param count how often the action was taken
+     */
+    public record Entry(@NotNull Action action, @NotNull Phase phase, @NotNull String packet, long count) {
+    }
+}
@@ -0,0 +1,128 @@
+package org.geysermc.hydraulic.neoforge.network;
+
+import net.minecraft.resources.ResourceLocation;
+import org.geysermc.hydraulic.config.HydraulicConfig;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Compiled form of the custom payload rules from the configuration.
+ * <p>
+ * There are two sets of rules: the payloads NeoForge's validation is relaxed
+ * for ({@link #current()}) and the modded payloads still sent to Bedrock
+ * players ({@link #bedrock()}). The rules are compiled once when the
+ * configuration is (re)loaded into hash sets keyed on payload id and
+ * namespace, so checking a payload does not allocate or build any strings.
+ */
+public class PayloadFilterRules {
+    private static final Logger LOGGER = LoggerFactory.getLogger("PayloadFilterRules");
+
+    private static volatile PayloadFilterRules current = new PayloadFilterRules(false, Set.of(), Set.of(), new String[0]);
+    private static volatile PayloadFilterRules bedrock = new PayloadFilterRules(false, Set.of(), Set.of("floodgate", "geyser"), new String[0]);
+
+    private final boolean matchAll;
+    private final Set<ResourceLocation> payloadIds;
+    private final Set<String> namespaces;
+    private final String[] namespacePrefixes;
+
+    private PayloadFilterRules(boolean matchAll, Set<ResourceLocation> payloadIds, Set<String> namespaces, String[] namespacePrefixes) {
+        this.matchAll = matchAll;
+        this.payloadIds = payloadIds;
+        this.namespaces = namespaces;
+        this.namespacePrefixes = namespacePrefixes;
+    }
+
+    /**
+     * Gets the currently active rules.
+     *
+     * @return the active rules
+     */
+    @NotNull
+    public static PayloadFilterRules current() {
+        return current;
+    }
+
+    /**
+     * Gets the currently active rules for the modded payloads sent to Bedrock players.
+     *
+     * @return the active Bedrock payload rules
+     */
+    @NotNull
+    public static PayloadFilterRules bedrock() {
+        return bedrock;
+    }
+
+    /**
+     * Compiles the rules from the given configuration and makes them active.
+     *
+     * @param config the configuration to compile the rules from
+     */
+    public static void reload(@NotNull HydraulicConfig config) {
+        current = compile("relaxed", config.network().relaxAllCustomPayloads(), config.network().relaxedPayloads());
+        bedrock = compile("Bedrock", false, config.network().bedrockPayloads());
+    }
+
+    /**
+     * Checks if the given payload matches any of the rules.
+     *
+     * @param payloadId the id of the payload
+     * @return if the payload matches
+     */
+    public boolean matches(@NotNull ResourceLocation payloadId) {
+        return this.payloadIds.contains(payloadId) || this.matchesNamespace(payloadId.getNamespace());
+    }
+
+    /**
+     * Checks if every payload of the given namespace matches the rules.
+     * Rules for single payload ids are not taken into account.
+     *
+     * @param namespace the namespace
+     * @return if the whole namespace matches
+     */
+    public boolean matchesNamespace(@NotNull String namespace) {
+        if (this.matchAll || this.namespaces.contains(namespace)) {
+            return true;
+        }
+
+        for (String prefix : this.namespacePrefixes) {
+            if (namespace.startsWith(prefix)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static PayloadFilterRules compile(String name, boolean matchAll, List<String> rules) {
+        Set<ResourceLocation> payloadIds = new HashSet<>();
+        Set<String> namespaces = new HashSet<>();
+        List<String> namespacePrefixes = new ArrayList<>();
+
+        for (String rule : rules) {
+            if (rule.endsWith("*")) {
+                namespacePrefixes.add(rule.substring(0, rule.length() - 1));
+            } else if (rule.indexOf(':') >= 0) {
+                ResourceLocation payloadId = ResourceLocation.tryParse(rule);
+                if (payloadId == null) {
+                    LOGGER.warn("PayloadFilterRules: Ignoring invalid payload id rule: {}", rule);
+                    continue;
+                }
+
+                payloadIds.add(payloadId);
+            } else {
+                namespaces.add(rule);
+            }
+        }
+
+        LOGGER.info("PayloadFilterRules: Compiled {} {} payload ids, {} namespaces and {} namespace prefixes (match all: {})",
+            payloadIds.size(), name, namespaces.size(), namespacePrefixes.size(), matchAll);
+
+        return new PayloadFilterRules(matchAll, Set.copyOf(payloadIds), Set.copyOf(namespaces), namespacePrefixes.toArray(String[]::new));
+    }
+}
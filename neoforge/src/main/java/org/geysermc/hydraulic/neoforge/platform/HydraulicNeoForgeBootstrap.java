@@ -35,7 +35,8 @@ public class HydraulicNeoForgeBootstrap implements HydraulicBootstrap {
                     mod.getDisplayName(),
                     mod.getVersion().toString(),
                     mod.getLogoFile().map(modPath::resolve).filter(Files::isRegularFile).orElse(null),
-                    List.of(modPath)
+                    List.of(modPath),
+                    mod.getOwningFile().getFile().getFilePath()
                 );
             })
             .collect(Collectors.toUnmodifiableMap(ModInfo::id, Function.identity()))
@@ -1,62 +1,268 @@
 package org.geysermc.hydraulic.neoforge.util;
 
-import net.minecraft.server.network.ServerConfigurationPacketListenerImpl;
+import com.mojang.authlib.GameProfile;
+import org.geysermc.hydraulic.config.HydraulicConfig;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
 /**
  * Helper class for detecting Bedrock players across different mixins.
+ * <p>
+ * Detection runs an ordered chain of {@link BedrockDetectionStrategy strategies}:
+ * the Geyser API, the Floodgate API, the Floodgate name prefix and a game profile
+ * property forwarded by the proxy. The first strategy with a definitive answer
+ * wins, a player nobody recognises is a Java player. The prefix and property are
+ * taken from the {@code detection} section of the configuration.
+ * <p>
+ * Detection is only performed once per connection by {@link BedrockPlayerRegistry},
+ * mixins should read the resolved flag from there instead of calling into this class.
  */
 public class BedrockDetectionHelper {
     private static final Logger LOGGER = LoggerFactory.getLogger("BedrockDetectionHelper");
-    
+
+    private static final MethodHandle GEYSER_API;
+    private static final MethodHandle GEYSER_IS_BEDROCK_PLAYER;
+    private static final MethodHandle FLOODGATE_API;
+    private static final MethodHandle FLOODGATE_IS_FLOODGATE_PLAYER;
+
+    private static final StrategyStats GEYSER = new StrategyStats(new GeyserApiStrategy());
+    private static final StrategyStats FLOODGATE = new StrategyStats(new FloodgateApiStrategy());
+
+    private static volatile List<StrategyStats> chain = List.of(GEYSER, FLOODGATE, new StrategyStats(new NamePrefixStrategy(".")));
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+
+        MethodHandle api = null;
+        MethodHandle isBedrockPlayer = null;
+        try {
+            // Resolve the Geyser API once using reflection to avoid ClassNotFoundException
+            Class<?> geyserApiClass = Class.forName("org.geysermc.geyser.api.GeyserApi");
+            api = lookup.unreflect(geyserApiClass.getMethod("api"));
+            isBedrockPlayer = lookup.unreflect(geyserApiClass.getMethod("isBedrockPlayer", UUID.class));
+        } catch (ReflectiveOperationException | LinkageError e) {
+            LOGGER.debug("BedrockDetectionHelper: Geyser API not available (this is normal if Geyser is not installed): {}", e.getMessage());
+        }
+
+        GEYSER_API = api;
+        GEYSER_IS_BEDROCK_PLAYER = isBedrockPlayer;
+
+        api = null;
+        MethodHandle isFloodgatePlayer = null;
+        try {
+            Class<?> floodgateApiClass = Class.forName("org.geysermc.floodgate.api.FloodgateApi");
+            api = lookup.unreflect(floodgateApiClass.getMethod("getInstance"));
+            isFloodgatePlayer = lookup.unreflect(floodgateApiClass.getMethod("isFloodgatePlayer", UUID.class));
+        } catch (ReflectiveOperationException | LinkageError e) {
+            LOGGER.debug("BedrockDetectionHelper: Floodgate API not available (this is normal if Floodgate is not installed): {}", e.getMessage());
+        }
+
+        FLOODGATE_API = api;
+        FLOODGATE_IS_FLOODGATE_PLAYER = isFloodgatePlayer;
+    }
+
+    /**
+     * Rebuilds the detection chain from the given configuration.
+     *
+     * @param config the configuration
+     */
+    public static void reload(@NotNull HydraulicConfig config) {
+        List<StrategyStats> strategies = new ArrayList<>(List.of(GEYSER, FLOODGATE));
+
+        String prefix = config.detection().floodgatePrefix();
+        if (!prefix.isEmpty()) {
+            strategies.add(new StrategyStats(new NamePrefixStrategy(prefix)));
+        }
+
+        String property = config.detection().bedrockProfileProperty();
+        if (!property.isEmpty()) {
+            strategies.add(new StrategyStats(new ProfilePropertyStrategy(property)));
+        }
+
+        chain = List.copyOf(strategies);
+    }
+
     /**
-     * Checks if a player is a Bedrock player using multiple detection methods.
+     * Checks if a player is a Bedrock player by running the detection chain.
+     *
+     * @param profile the game profile of the player
+     * @return if the player is a Bedrock player
      */
-    public static boolean isBedrockPlayer(ServerConfigurationPacketListenerImpl listener) {
-        if (listener == null || listener.getOwner() == null) {
+    public static boolean isBedrockPlayer(@Nullable GameProfile profile) {
+        if (profile == null) {
             return false;
         }
-        
-        boolean isBedrockFromGeyser = false;
-        boolean isBedrockFromFloodgate = false;
-        boolean geyserAvailable = false;
-        
-        try {
-            // Try Geyser API first using reflection to avoid ClassNotFoundException
-            Class<?> geyserApiClass = Class.forName("org.geysermc.geyser.api.GeyserApi");
-            Object geyserApi = geyserApiClass.getMethod("api").invoke(null);
-            if (geyserApi != null) {
-                geyserAvailable = true;
-                Boolean result = (Boolean) geyserApiClass.getMethod("isBedrockPlayer", java.util.UUID.class)
-                    .invoke(geyserApi, listener.getOwner().getId());
-                isBedrockFromGeyser = result != null && result;
+
+        for (StrategyStats strategy : chain) {
+            BedrockDetectionStrategy.Result result = strategy.detect(profile);
+            if (result != BedrockDetectionStrategy.Result.UNKNOWN) {
+                LOGGER.debug("BedrockDetectionHelper: Player {} - {} (by {})", profile.getName(), result, strategy.strategy.name());
+                return result == BedrockDetectionStrategy.Result.BEDROCK;
+            }
+        }
+
+        LOGGER.debug("BedrockDetectionHelper: Player {} - JAVA (no strategy recognised the player)", profile.getName());
+        return false;
+    }
+
+    /**
+     * Gets the statistics of every strategy in the current chain, in the order they run.
+     *
+     * @return the strategy statistics
+     */
+    @NotNull
+    public static List<Stats> stats() {
+        List<Stats> stats = new ArrayList<>();
+        for (StrategyStats strategy : chain) {
+            stats.add(new Stats(strategy.strategy.name(), strategy.calls.sum(), strategy.hits.sum(), strategy.nanos.sum()));
+        }
+
+        return stats;
+    }
+
+    /**
+     * Asks the Geyser API running on this server.
+     */
+    private static class GeyserApiStrategy implements BedrockDetectionStrategy {
+        @Override
+        public @NotNull String name() {
+            return "geyser-api";
+        }
+
+        @Override
+        public @NotNull Result detect(@NotNull GameProfile profile) {
+            if (GEYSER_API == null || profile.getId() == null) {
+                return Result.UNKNOWN;
+            }
+
+            try {
+                Object geyserApi = GEYSER_API.invoke();
+                if (geyserApi != null && (boolean) GEYSER_IS_BEDROCK_PLAYER.invoke(geyserApi, profile.getId())) {
+                    return Result.BEDROCK;
+                }
+            } catch (Throwable geyserException) {
+                LOGGER.debug("BedrockDetectionHelper: Geyser check failed: {}", geyserException.getMessage());
+            }
+
+            // Players connecting through a proxy are not known to a local Geyser
+            return Result.UNKNOWN;
+        }
+    }
+
+    /**
+     * Asks the Floodgate API running on this server.
+     */
+    private static class FloodgateApiStrategy implements BedrockDetectionStrategy {
+        @Override
+        public @NotNull String name() {
+            return "floodgate-api";
+        }
+
+        @Override
+        public @NotNull Result detect(@NotNull GameProfile profile) {
+            if (FLOODGATE_API == null || profile.getId() == null) {
+                return Result.UNKNOWN;
+            }
+
+            try {
+                Object floodgateApi = FLOODGATE_API.invoke();
+                if (floodgateApi != null && (boolean) FLOODGATE_IS_FLOODGATE_PLAYER.invoke(floodgateApi, profile.getId())) {
+                    return Result.BEDROCK;
+                }
+            } catch (Throwable floodgateException) {
+                LOGGER.debug("BedrockDetectionHelper: Floodgate check failed: {}", floodgateException.getMessage());
+            }
+
+            return Result.UNKNOWN;
+        }
+    }
+
+    /**
+     * Checks the name prefix Floodgate gives Bedrock players.
+     */
+    private static class NamePrefixStrategy implements BedrockDetectionStrategy {
+        private final String prefix;
+
+        private NamePrefixStrategy(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public @NotNull String name() {
+            return "name-prefix(" + this.prefix + ")";
+        }
+
+        @Override
+        public @NotNull Result detect(@NotNull GameProfile profile) {
+            String playerName = profile.getName();
+            return playerName != null && playerName.startsWith(this.prefix) ? Result.BEDROCK : Result.UNKNOWN;
+        }
+    }
+
+    /**
+     * Checks for a game profile property forwarded by the proxy.
+     */
+    private static class ProfilePropertyStrategy implements BedrockDetectionStrategy {
+        private final String property;
+
+        private ProfilePropertyStrategy(String property) {
+            this.property = property;
+        }
+
+        @Override
+        public @NotNull String name() {
+            return "profile-property(" + this.property + ")";
+        }
+
+        @Override
+        public @NotNull Result detect(@NotNull GameProfile profile) {
+            return profile.getProperties().containsKey(this.property) ? Result.BEDROCK : Result.UNKNOWN;
+        }
+    }
+
+    /**
+     * A strategy in the chain together with its counters.
+     */
+    private static class StrategyStats {
+        private final BedrockDetectionStrategy strategy;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        private StrategyStats(BedrockDetectionStrategy strategy) {
+            this.strategy = strategy;
+        }
+
+        private BedrockDetectionStrategy.Result detect(GameProfile profile) {
+            long start = System.nanoTime();
+            BedrockDetectionStrategy.Result result = this.strategy.detect(profile);
+            this.nanos.add(System.nanoTime() - start);
+            this.calls.increment();
+            if (result != BedrockDetectionStrategy.Result.UNKNOWN) {
+                this.hits.increment();
             }
-        } catch (Exception geyserException) {
-            LOGGER.debug("BedrockDetectionHelper: Geyser check failed (this is normal if Geyser is not installed): {}", geyserException.getMessage());
-            geyserAvailable = false;
-        }
-        
-        // Check if this is a Floodgate player (Bedrock players via Geyser/Floodgate start with a dot)
-        String playerName = listener.getOwner().getName();
-        if (playerName != null && playerName.startsWith(".")) {
-            isBedrockFromFloodgate = true;
-        }
-        
-        // If Geyser is not available, only rely on Floodgate naming convention
-        // This prevents false positives when Geyser is missing
-        boolean isBedrock = geyserAvailable ? (isBedrockFromGeyser || isBedrockFromFloodgate) : isBedrockFromFloodgate;
-        
-        LOGGER.debug("BedrockDetectionHelper: Player {} - Bedrock: {} (Geyser available: {}, Geyser: {}, Floodgate: {})", 
-            playerName, isBedrock, geyserAvailable, isBedrockFromGeyser, isBedrockFromFloodgate);
-            
-        return isBedrock;
-    }
-    
-    /**
-     * Checks if a player name indicates a Bedrock player (Floodgate naming convention).
-     */
-    public static boolean isFloodgatePlayer(String playerName) {
-        return playerName != null && playerName.startsWith(".");
+
+            return result;
+        }
+    }
+
+    /**
+     * The statistics of a single strategy.
+     *
+     * @param name the name of the strategy
+     * @param calls how often the strategy was asked
+     * @param hits how often the strategy gave a definitive answer
+     * @param totalNanos the total time spent in the strategy
+     */
+    public record Stats(String name, long calls, long hits, long totalNanos) {
     }
 }
@@ -0,0 +1,45 @@
+package org.geysermc.hydraulic.neoforge.util;
+
+import com.mojang.authlib.GameProfile;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A single way of telling if a player is a Bedrock player, run as part of
+ * the chain in {@link BedrockDetectionHelper}.
+ */
+public interface BedrockDetectionStrategy {
+    /**
+     * Gets the name of the strategy, as shown in the detection statistics.
+     *
+     * @return the name of the strategy
+     */
+    @NotNull
+    String name();
+
+    /**
+     * Checks the given player.
+     *
+     * @param profile the game profile of the player
+     * @return the answer of the strategy
+     */
+    @NotNull
+    Result detect(@NotNull GameProfile profile);
+
+    /**
+     * The answer of a strategy.
+     */
+    enum Result {
+        /**
+         * The player is definitely a Bedrock player, the chain stops here.
+         */
+        BEDROCK,
+        /**
+         * The player is definitely a Java player, the chain stops here.
+         */
+        JAVA,
+        /**
+         * The strategy cannot tell, the next strategy is asked.
+         */
+        UNKNOWN
+    }
+}
@@ -0,0 +1,93 @@
+package org.geysermc.hydraulic.neoforge.util;
+
+import com.mojang.authlib.GameProfile;
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+import net.minecraft.network.Connection;
+import net.minecraft.server.network.ServerCommonPacketListenerImpl;
+import org.geysermc.hydraulic.neoforge.mixin.accessor.ServerCommonPacketListenerAccessor;
+import org.geysermc.hydraulic.neoforge.network.BedrockPacketFilter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps track of which connections belong to Bedrock players.
+ * <p>
+ * A connection is identified once when its configuration phase starts
+ * and the result is stored as an attribute on its Netty channel, so every
+ * mixin on the packet path only has to read the already resolved flag.
+ * The attribute lives and dies with the channel, and is also cleared
+ * explicitly when the player disconnects.
+ */
+public class BedrockPlayerRegistry {
+    private static final Logger LOGGER = LoggerFactory.getLogger("BedrockPlayerRegistry");
+
+    /**
+     * Channel attribute holding whether the connection belongs to a Bedrock player.
+     */
+    public static final AttributeKey<Boolean> BEDROCK_PLAYER = AttributeKey.valueOf("hydraulic:bedrock_player");
+
+    /**
+     * Identifies the player on the given connection and records the result.
+     * Bedrock players also get the {@link BedrockPacketFilter} added to their pipeline.
+     *
+     * @param connection the connection of the player
+     * @param profile the game profile of the player
+     * @return if the player is a Bedrock player
+     */
+    public static boolean register(@NotNull Connection connection, @Nullable GameProfile profile) {
+        boolean isBedrockPlayer = BedrockDetectionHelper.isBedrockPlayer(profile);
+
+        Channel channel = connection.channel();
+        if (channel != null) {
+            channel.attr(BEDROCK_PLAYER).set(isBedrockPlayer);
+        }
+
+        if (isBedrockPlayer) {
+            BedrockPacketFilter.install(connection, profile.getName());
+        }
+
+        LOGGER.debug("BedrockPlayerRegistry: Registered connection for {} (Bedrock: {})",
+            profile != null ? profile.getName() : "unknown", isBedrockPlayer);
+        return isBedrockPlayer;
+    }
+
+    /**
+     * Removes the given connection from the registry.
+     *
+     * @param connection the connection to remove
+     */
+    public static void unregister(@NotNull Connection connection) {
+        Channel channel = connection.channel();
+        if (channel != null) {
+            channel.attr(BEDROCK_PLAYER).set(null);
+        }
+    }
+
+    /**
+     * Checks if the given connection belongs to a Bedrock player.
+     *
+     * @param connection the connection to check
+     * @return if the connection belongs to a Bedrock player
+     */
+    public static boolean isBedrockPlayer(@Nullable Connection connection) {
+        if (connection == null) {
+            return false;
+        }
+
+        Channel channel = connection.channel();
+        return channel != null && channel.attr(BEDROCK_PLAYER).get() == Boolean.TRUE;
+    }
+
+    /**
+     * Checks if the given packet listener belongs to a Bedrock player.
+     *
+     * @param listener the packet listener to check
+     * @return if the packet listener belongs to a Bedrock player
+     */
+    public static boolean isBedrockPlayer(@Nullable ServerCommonPacketListenerImpl listener) {
+        return listener != null && isBedrockPlayer(((ServerCommonPacketListenerAccessor) listener).hydraulic$getConnection());
+    }
+}
@@ -0,0 +1,136 @@
+package org.geysermc.hydraulic.neoforge.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed size histogram of durations in milliseconds, in the style of HdrHistogram.
+ * <p>
+ * Values below 16ms get a bucket each, every power of two above that is split
+ * into 16 linear sub buckets. This keeps the error of any percentile under about
+ * 6% while the whole histogram stays a few hundred counters, no matter how many
+ * values are recorded. Values above {@link #MAX_TRACKED_MILLIS} end up in the last
+ * bucket. Recording is lock free and may happen from any thread.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The largest value with its own bucket, a bit over 17 minutes.
+     */
+    public static final long MAX_TRACKED_MILLIS = (1L << 20) - 1;
+
+    private static final int BUCKETS = index(MAX_TRACKED_MILLIS) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalMillis = new AtomicLong();
+    private final AtomicLong maxMillis = new AtomicLong();
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    public void recordNanos(long nanos) {
+        long millis = Math.max(0, TimeUnit.NANOSECONDS.toMillis(nanos));
+        this.counts.incrementAndGet(index(Math.min(millis, MAX_TRACKED_MILLIS)));
+        this.count.incrementAndGet();
+        this.totalMillis.addAndGet(millis);
+        this.maxMillis.accumulateAndGet(millis, Math::max);
+    }
+
+    /**
+     * Removes every recorded value.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            this.counts.set(i, 0);
+        }
+        this.count.set(0);
+        this.totalMillis.set(0);
+        this.maxMillis.set(0);
+    }
+
+    /**
+     * Takes a snapshot of the histogram.
+     * <p>
+     * Values recorded while the snapshot is taken may be partially included.
+     *
+     * @return the snapshot
+     */
+    @NotNull
+    public Snapshot snapshot() {
+        long[] buckets = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = this.counts.get(i);
+            total += buckets[i];
+        }
+
+        // Percentiles are reported as the top of their bucket, which can be above the largest recorded value
+        long max = this.maxMillis.get();
+        return new Snapshot(
+            total,
+            total > 0 ? this.totalMillis.get() / Math.max(1, this.count.get()) : 0,
+            Math.min(max, percentile(buckets, total, 0.50)),
+            Math.min(max, percentile(buckets, total, 0.90)),
+            Math.min(max, percentile(buckets, total, 0.99)),
+            max
+        );
+    }
+
+    private static long percentile(long[] buckets, long total, double percentile) {
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(total * percentile));
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return highestValue(i);
+            }
+        }
+
+        return MAX_TRACKED_MILLIS;
+    }
+
+    private static int index(long millis) {
+        int exponent = 63 - Long.numberOfLeadingZeros(millis | 1);
+        if (exponent < SUB_BUCKET_BITS) {
+            return (int) millis;
+        }
+
+        int shift = exponent - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((millis >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    private static long highestValue(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        int shift = index / SUB_BUCKETS - 1;
+        long lowest = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    /**
+     * A snapshot of a histogram, all values in milliseconds.
+     *
+     * @param count the number of recorded values
+     * @param mean the mean of the recorded values
+     * @param p50 the median
+     * @param p90 the 90th percentile
+     * @param p99 the 99th percentile
+     * @param max the largest recorded value
+     */
+    public record Snapshot(long count, long mean, long p50, long p90, long p99, long max) {
+    }
+}
@@ -0,0 +1,134 @@
+package org.geysermc.hydraulic.neoforge.util;
+
+import org.geysermc.hydraulic.config.HydraulicConfig;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Logging facade for the hot path interceptors that suppress packets, packet
+ * errors and disconnects for Bedrock players.
+ * <p>
+ * Instead of logging every event, events are counted per category and player
+ * and a single summary line per category is logged at a fixed interval. Logging
+ * every event individually is only done when {@code logging.trace} is enabled
+ * in the configuration. Summaries are flushed from the server tick once the
+ * interval has passed, so a burst of events is summarized even if nothing
+ * happens afterwards.
+ */
+public class SuppressedEventLog {
+    private static final Logger LOGGER = LoggerFactory.getLogger("SuppressedEventLog");
+
+    /**
+     * The maximum number of players listed in a summary line.
+     */
+    private static final int MAX_PLAYERS_PER_SUMMARY = 5;
+
+    private static final Map<String, Map<String, LongAdder>> COUNTS = new ConcurrentHashMap<>();
+    private static final AtomicLong NEXT_FLUSH = new AtomicLong(System.nanoTime());
+
+    private static volatile boolean trace;
+    private static volatile long intervalNanos = TimeUnit.SECONDS.toNanos(60);
+
+    /**
+     * Applies the logging options from the given configuration.
+     *
+     * @param config the configuration
+     */
+    public static void reload(@NotNull HydraulicConfig config) {
+        trace = config.logging().trace();
+        intervalNanos = TimeUnit.SECONDS.toNanos(config.logging().summaryIntervalSeconds());
+        NEXT_FLUSH.set(System.nanoTime() + intervalNanos);
+    }
+
+    /**
+     * Gets if every event should be logged individually. Callers should check
+     * this before building any expensive log arguments.
+     *
+     * @return if per event logging is enabled
+     */
+    public static boolean isTraceEnabled() {
+        return trace;
+    }
+
+    /**
+     * Records a suppressed event.
+     *
+     * @param category the category of the event, used as the subject of the summary line
+     * @param playerName the name of the player the event belongs to
+     */
+    public static void record(@NotNull String category, String playerName) {
+        COUNTS.computeIfAbsent(category, key -> new ConcurrentHashMap<>())
+            .computeIfAbsent(playerName == null ? "unknown" : playerName, key -> new LongAdder())
+            .increment();
+    }
+
+    /**
+     * Called by the server thread every tick, flushes the summaries once the interval has passed.
+     */
+    public static void tick() {
+        long now = System.nanoTime();
+        long nextFlush = NEXT_FLUSH.get();
+        if (now - nextFlush >= 0 && NEXT_FLUSH.compareAndSet(nextFlush, now + intervalNanos)) {
+            flush();
+        }
+    }
+
+    /**
+     * Logs a summary line for every category that had events since the last flush.
+     */
+    public static void flush() {
+        long intervalSeconds = TimeUnit.NANOSECONDS.toSeconds(intervalNanos);
+        for (Map.Entry<String, Map<String, LongAdder>> category : COUNTS.entrySet()) {
+            long total = 0;
+            int listed = 0;
+            StringBuilder players = new StringBuilder();
+
+            for (Map.Entry<String, LongAdder> player : category.getValue().entrySet()) {
+                long count = player.getValue().sumThenReset();
+                if (count == 0) {
+                    // Nothing happened for a whole interval, most likely the player left
+                    removeIdle(category.getValue(), player.getKey(), player.getValue());
+                    continue;
+                }
+
+                total += count;
+                if (listed++ < MAX_PLAYERS_PER_SUMMARY) {
+                    if (!players.isEmpty()) {
+                        players.append(", ");
+                    }
+
+                    players.append(player.getKey()).append(": ").append(count);
+                }
+            }
+
+            if (total == 0) {
+                continue;
+            }
+
+            if (listed > MAX_PLAYERS_PER_SUMMARY) {
+                players.append(", and ").append(listed - MAX_PLAYERS_PER_SUMMARY).append(" more");
+            }
+
+            LOGGER.info("SuppressedEventLog: {} {} in the last {}s ({})", total, category.getKey(), intervalSeconds, players);
+        }
+    }
+
+    private static void removeIdle(Map<String, LongAdder> counts, String playerName, LongAdder count) {
+        if (!counts.remove(playerName, count)) {
+            return;
+        }
+
+        // Events recorded into the counter while it was being removed are carried over to the next summary
+        long late = count.sumThenReset();
+        if (late != 0) {
+            counts.computeIfAbsent(playerName, key -> new LongAdder()).add(late);
+        }
+    }
+}
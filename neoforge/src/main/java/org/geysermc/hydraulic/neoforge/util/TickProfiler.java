@@ -0,0 +1,169 @@
+package org.geysermc.hydraulic.neoforge.util;
+
+import org.geysermc.hydraulic.config.HydraulicConfig;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures how much of every server tick is spent in Hydraulic.
+ * <p>
+ * Hydraulic hooks wrap their work in {@link #begin()} and {@link #end(long)}.
+ * Time spent on the server thread is added to the current tick, time spent on
+ * other threads (mostly the network threads) is only counted in total since it
+ * does not hold up the tick. Work the server thread does between two ticks, such as
+ * packet tasks it runs while waiting for the next tick, is added to the next tick.
+ * Nested work on the server thread, such as a hook triggered by a scheduled task,
+ * is only counted once. The last minute of ticks is kept in a ring buffer, from
+ * which rolling percentiles are worked out when they are asked for. Ticks where Hydraulic goes over {@code profiling.tickBudgetMicros}
+ * are counted and reported through the {@link SuppressedEventLog}.
+ */
+public class TickProfiler {
+    /**
+     * The number of ticks the rolling statistics cover, one minute.
+     */
+    private static final int WINDOW = 60 * 20;
+
+    private static final long[] HYDRAULIC_NANOS = new long[WINDOW];
+    private static final long[] TICK_NANOS = new long[WINDOW];
+    private static final LongAdder OFF_THREAD_NANOS = new LongAdder();
+
+    private static volatile boolean enabled = true;
+    private static volatile long budgetNanos = TimeUnit.MICROSECONDS.toNanos(1000);
+
+    private static volatile Thread serverThread;
+    private static long tickStart;
+    // Hydraulic time on the server thread since the end of the last tick
+    private static long currentNanos;
+    private static int depth;
+    private static long ticks;
+    private static long overBudget;
+
+    /**
+     * Applies the profiling options from the given configuration.
+     *
+     * @param config the configuration
+     */
+    public static void reload(@NotNull HydraulicConfig config) {
+        enabled = config.profiling().tickProfiler();
+        budgetNanos = TimeUnit.MICROSECONDS.toNanos(config.profiling().tickBudgetMicros());
+    }
+
+    /**
+     * Marks the start of a piece of Hydraulic work.
+     *
+     * @return the value to pass to {@link #end(long)}
+     */
+    public static long begin() {
+        if (!enabled) {
+            return 0;
+        }
+
+        if (Thread.currentThread() == serverThread) {
+            depth++;
+        }
+
+        return System.nanoTime();
+    }
+
+    /**
+     * Marks the end of a piece of Hydraulic work.
+     *
+     * @param start the value returned by {@link #begin()}
+     */
+    public static void end(long start) {
+        if (start == 0) {
+            return;
+        }
+
+        long elapsed = System.nanoTime() - start;
+        if (Thread.currentThread() == serverThread) {
+            if (--depth == 0) {
+                currentNanos += elapsed;
+            }
+        } else {
+            OFF_THREAD_NANOS.add(elapsed);
+        }
+    }
+
+    /**
+     * Called by the server thread at the start of every tick. Work done since the
+     * end of the previous tick is kept and counted towards this tick.
+     */
+    public static void startTick() {
+        serverThread = Thread.currentThread();
+        tickStart = System.nanoTime();
+        depth = 0;
+    }
+
+    /**
+     * Called by the server thread at the end of every tick.
+     */
+    public static void endTick() {
+        if (!enabled || tickStart == 0) {
+            return;
+        }
+
+        long hydraulicNanos = currentNanos;
+        currentNanos = 0;
+
+        int slot = (int) (ticks % WINDOW);
+        HYDRAULIC_NANOS[slot] = hydraulicNanos;
+        TICK_NANOS[slot] = System.nanoTime() - tickStart;
+        ticks++;
+
+        long budget = budgetNanos;
+        if (budget > 0 && hydraulicNanos > budget) {
+            overBudget++;
+            SuppressedEventLog.record("Ticks over the Hydraulic tick budget", "server");
+        }
+    }
+
+    /**
+     * Gets the rolling statistics of the last minute of ticks. Must be called from the server thread.
+     *
+     * @return the profiler statistics
+     */
+    @NotNull
+    public static Stats stats() {
+        int count = (int) Math.min(ticks, WINDOW);
+        if (count == 0) {
+            return new Stats(0, 0, 0, 0, 0, overBudget, TimeUnit.NANOSECONDS.toMicros(OFF_THREAD_NANOS.sum()));
+        }
+
+        long[] hydraulic = Arrays.copyOf(HYDRAULIC_NANOS, count);
+        long hydraulicTotal = 0;
+        long tickTotal = 0;
+        for (int i = 0; i < count; i++) {
+            hydraulicTotal += hydraulic[i];
+            tickTotal += TICK_NANOS[i];
+        }
+        Arrays.sort(hydraulic);
+
+        return new Stats(
+            count,
+            TimeUnit.NANOSECONDS.toMicros(hydraulic[(count - 1) / 2]),
+            TimeUnit.NANOSECONDS.toMicros(hydraulic[(int) Math.ceil(count * 0.99) - 1]),
+            TimeUnit.NANOSECONDS.toMicros(hydraulic[count - 1]),
+            tickTotal > 0 ? hydraulicTotal * 100.0 / tickTotal : 0,
+            overBudget,
+            TimeUnit.NANOSECONDS.toMicros(OFF_THREAD_NANOS.sum())
+        );
+    }
+
+    /**
+     * The rolling tick statistics.
+     *
+     * @param ticks the number of ticks the statistics cover
+     * @param p50Micros the median time spent in Hydraulic per tick
+     * @param p99Micros the 99th percentile of the time spent in Hydraulic per tick
+     * @param maxMicros the longest time spent in Hydraulic in a single tick
+     * @param sharePercent the share of the total tick time spent in Hydraulic
+     * @param overBudget the number of ticks over the budget since the server started
+     * @param offThreadMicros the total time spent in Hydraulic on other threads since the server started
+     */
+    public record Stats(int ticks, long p50Micros, long p99Micros, long maxMicros, double sharePercent, long overBudget, long offThreadMicros) {
+    }
+}
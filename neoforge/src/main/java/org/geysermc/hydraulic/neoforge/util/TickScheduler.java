@@ -0,0 +1,172 @@
+package org.geysermc.hydraulic.neoforge.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs delayed actions on the server thread, driven by the server tick loop.
+ * <p>
+ * Pending tasks are kept in a hashed timing wheel: a fixed ring of buckets,
+ * one per tick, where each bucket is a doubly linked list of tasks. Tasks
+ * further away than one rotation carry the number of rotations left. This
+ * makes scheduling and cancelling O(1), and a tick only looks at the tasks
+ * in a single bucket. Actions may be scheduled and cancelled from any thread,
+ * but always run on the server thread at the end of a server tick.
+ */
+public class TickScheduler {
+    private static final Logger LOGGER = LoggerFactory.getLogger("TickScheduler");
+
+    /**
+     * The number of buckets in the wheel, 12.8 seconds worth of ticks. Must be a power of two.
+     */
+    private static final int WHEEL_SIZE = 256;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private static final Task[] WHEEL = new Task[WHEEL_SIZE];
+
+    private static long currentTick;
+    private static int pending;
+
+    /**
+     * Schedules an action to run after the given number of ticks.
+     *
+     * @param delayTicks the number of ticks to wait, at least one
+     * @param action the action to run
+     * @return the scheduled task, which can be used to cancel it
+     */
+    @NotNull
+    public static synchronized Task schedule(int delayTicks, @NotNull Runnable action) {
+        int delay = Math.max(1, delayTicks);
+
+        Task task = new Task(action);
+        task.rounds = (delay - 1) / WHEEL_SIZE;
+        link(task, (int) ((currentTick + delay) & WHEEL_MASK));
+        return task;
+    }
+
+    /**
+     * Advances the scheduler by one tick and runs every action that is due.
+     * Must be called from the server thread once per tick.
+     */
+    public static void tick() {
+        List<Task> due = null;
+        synchronized (TickScheduler.class) {
+            currentTick++;
+
+            Task task = WHEEL[(int) (currentTick & WHEEL_MASK)];
+            while (task != null) {
+                Task next = task.next;
+                if (task.rounds > 0) {
+                    task.rounds--;
+                } else {
+                    unlink(task);
+                    if (due == null) {
+                        due = new ArrayList<>();
+                    }
+                    due.add(task);
+                }
+                task = next;
+            }
+        }
+
+        if (due == null) {
+            return;
+        }
+
+        // Run outside the lock so actions can schedule and cancel tasks
+        for (Task task : due) {
+            try {
+                task.action.run();
+            } catch (Exception e) {
+                LOGGER.error("TickScheduler: Scheduled task failed", e);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of tasks that are waiting to run.
+     *
+     * @return the number of pending tasks
+     */
+    public static synchronized int pending() {
+        return pending;
+    }
+
+    /**
+     * Drops every pending task, used when the server stops.
+     */
+    public static synchronized void clear() {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            Task task = WHEEL[i];
+            while (task != null) {
+                Task next = task.next;
+                task.bucket = -1;
+                task.prev = null;
+                task.next = null;
+                task = next;
+            }
+            WHEEL[i] = null;
+        }
+
+        pending = 0;
+    }
+
+    private static void link(Task task, int bucket) {
+        Task head = WHEEL[bucket];
+        task.bucket = bucket;
+        task.next = head;
+        if (head != null) {
+            head.prev = task;
+        }
+        WHEEL[bucket] = task;
+        pending++;
+    }
+
+    private static void unlink(Task task) {
+        if (task.prev != null) {
+            task.prev.next = task.next;
+        } else {
+            WHEEL[task.bucket] = task.next;
+        }
+
+        if (task.next != null) {
+            task.next.prev = task.prev;
+        }
+
+        task.bucket = -1;
+        task.prev = null;
+        task.next = null;
+        pending--;
+    }
+
+    /**
+     * A task waiting in the scheduler.
+     */
+    public static class Task {
+        private final Runnable action;
+
+        private int bucket = -1;
+        private long rounds;
+        private Task prev;
+        private Task next;
+
+        private Task(Runnable action) {
+            this.action = action;
+        }
+
+        /**
+         * Cancels the task. Does nothing if it has already run or was cancelled before.
+         */
+        public void cancel() {
+            synchronized (TickScheduler.class) {
+                if (this.bucket >= 0) {
+                    unlink(this);
+                }
+            }
+        }
+    }
+}
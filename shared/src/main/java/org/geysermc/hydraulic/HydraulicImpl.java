@@ -2,10 +2,12 @@ package org.geysermc.hydraulic;
 
 import net.minecraft.server.MinecraftServer;
 // import org.geysermc.geyser.api.event.EventRegistrar; // Commented out to avoid ClassNotFoundException when Geyser is not available
+import org.geysermc.hydraulic.config.HydraulicConfig;
 import org.geysermc.hydraulic.pack.PackManagerStub;
 import org.geysermc.hydraulic.platform.HydraulicBootstrap;
 import org.geysermc.hydraulic.platform.HydraulicPlatform;
 import org.geysermc.hydraulic.platform.mod.ModInfo;
+import org.geysermc.hydraulic.scheduler.HydraulicScheduler;
 import org.geysermc.hydraulic.storage.ModStorage;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -15,7 +17,9 @@ import org.slf4j.LoggerFactory;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 
 /**
@@ -29,8 +33,12 @@ public class HydraulicImpl { // Removed EventRegistrar implementation to avoid G
     private final HydraulicPlatform platform;
     private final HydraulicBootstrap bootstrap;
     private final PackManagerStub packManager;
+    private final HydraulicScheduler scheduler;
 
     private final Map<String, ModStorage> modStorage = new HashMap<>();
+    private final List<Consumer<HydraulicConfig>> configListeners = new CopyOnWriteArrayList<>();
+
+    private volatile HydraulicConfig config;
 
     private MinecraftServer server;
 
@@ -40,6 +48,11 @@ public class HydraulicImpl { // Removed EventRegistrar implementation to avoid G
         this.platform = platform;
         this.bootstrap = bootstrap;
         this.packManager = new PackManagerStub(this);
+        this.scheduler = new HydraulicScheduler();
+        this.config = HydraulicConfig.load(this.configPath());
+
+        this.onConfigReload(this.scheduler::reload);
+        bootstrap.registerServerStop(server -> this.scheduler.shutdown());
     }
 
     /**
@@ -60,6 +73,48 @@ public class HydraulicImpl { // Removed EventRegistrar implementation to avoid G
         bootstrap.registerServerStop(listenerAction);
     }
 
+    /**
+     * Gets the current Hydraulic configuration.
+     *
+     * @return the current configuration
+     */
+    @NotNull
+    public HydraulicConfig config() {
+        return this.config;
+    }
+
+    /**
+     * Reloads the configuration from disk and notifies all reload listeners.
+     */
+    public void reloadConfig() {
+        this.config = HydraulicConfig.load(this.configPath());
+
+        for (Consumer<HydraulicConfig> listener : this.configListeners) {
+            listener.accept(this.config);
+        }
+    }
+
+    /**
+     * Registers a listener that is called with the current configuration
+     * right away and again every time the configuration is reloaded.
+     *
+     * @param listener the listener
+     */
+    public void onConfigReload(@NotNull Consumer<HydraulicConfig> listener) {
+        this.configListeners.add(listener);
+        listener.accept(this.config);
+    }
+
+    /**
+     * Gets the scheduler all Hydraulic background work runs on.
+     *
+     * @return the scheduler
+     */
+    @NotNull
+    public HydraulicScheduler scheduler() {
+        return this.scheduler;
+    }
+
     /**
      * Gets all the mods loaded on this platform.
      *
@@ -142,6 +197,10 @@ public class HydraulicImpl { // Removed EventRegistrar implementation to avoid G
         return instance;
     }
 
+    private Path configPath() {
+        return this.bootstrap.dataFolder(Constants.MOD_ID).resolve("config.json");
+    }
+
     public PackManagerStub getPackManager() {
         return packManager;
     }
@@ -0,0 +1,366 @@
+package org.geysermc.hydraulic.config;
+
+import com.google.gson.JsonParseException;
+import com.mojang.logging.LogUtils;
+import org.geysermc.hydraulic.Constants;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * The Hydraulic configuration, stored as {@code config.json} in the data folder.
+ * <p>
+ * Missing values fall back to their defaults, and the file is written back on
+ * every load so newly added options show up for server owners.
+ */
+public class HydraulicConfig {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private Network network = new Network();
+    private Logging logging = new Logging();
+    private Joins joins = new Joins();
+    private Detection detection = new Detection();
+    private Compatibility compatibility = new Compatibility();
+    private Profiling profiling = new Profiling();
+    private Packs packs = new Packs();
+
+    /**
+     * Gets the network configuration.
+     *
+     * @return the network configuration
+     */
+    @NotNull
+    public Network network() {
+        return this.network;
+    }
+
+    /**
+     * Gets the logging configuration.
+     *
+     * @return the logging configuration
+     */
+    @NotNull
+    public Logging logging() {
+        return this.logging;
+    }
+
+    /**
+     * Gets the join configuration.
+     *
+     * @return the join configuration
+     */
+    @NotNull
+    public Joins joins() {
+        return this.joins;
+    }
+
+    /**
+     * Gets the Bedrock detection configuration.
+     *
+     * @return the Bedrock detection configuration
+     */
+    @NotNull
+    public Detection detection() {
+        return this.detection;
+    }
+
+    /**
+     * Gets the mod compatibility configuration.
+     *
+     * @return the mod compatibility configuration
+     */
+    @NotNull
+    public Compatibility compatibility() {
+        return this.compatibility;
+    }
+
+    /**
+     * Gets the profiling configuration.
+     *
+     * @return the profiling configuration
+     */
+    @NotNull
+    public Profiling profiling() {
+        return this.profiling;
+    }
+
+    /**
+     * Gets the pack conversion configuration.
+     *
+     * @return the pack conversion configuration
+     */
+    @NotNull
+    public Packs packs() {
+        return this.packs;
+    }
+
+    /**
+     * Loads the configuration from the given path, creating it if it does not exist.
+     *
+     * @param path the path to the configuration file
+     * @return the loaded configuration
+     */
+    @NotNull
+    public static HydraulicConfig load(@NotNull Path path) {
+        HydraulicConfig config = null;
+        if (Files.exists(path)) {
+            try (BufferedReader reader = Files.newBufferedReader(path)) {
+                config = Constants.GSON.fromJson(reader, HydraulicConfig.class);
+            } catch (IOException | JsonParseException e) {
+                LOGGER.error("Failed to load config from {}, using defaults", path, e);
+                return new HydraulicConfig();
+            }
+        }
+
+        if (config == null) {
+            config = new HydraulicConfig();
+        }
+
+        try {
+            Files.createDirectories(path.getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+                Constants.GSON.toJson(config, writer);
+            }
+        } catch (IOException e) {
+            LOGGER.error("Failed to save config to {}", path, e);
+        }
+
+        return config;
+    }
+
+    /**
+     * Network related options.
+     */
+    public static class Network {
+        private boolean relaxAllCustomPayloads = true;
+        private List<String> relaxedPayloads = List.of(
+            "wormhole",
+            "glitchcore",
+            "dcintegration",
+            "gun_core",
+            "modern_guns",
+            "supermartijn642*"
+        );
+        private List<String> bedrockPayloads = List.of(
+            "floodgate",
+            "geyser"
+        );
+
+        /**
+         * Gets if NeoForge's payload validation should be skipped for every custom payload.
+         *
+         * @return if validation is skipped for every custom payload
+         */
+        public boolean relaxAllCustomPayloads() {
+            return this.relaxAllCustomPayloads;
+        }
+
+        /**
+         * Gets the custom payloads NeoForge's payload validation is skipped for.
+         * <p>
+         * Entries are either a full payload id ({@code namespace:path}), a
+         * namespace ({@code namespace}) or a namespace prefix ({@code prefix*}).
+         *
+         * @return the payload rules
+         */
+        @NotNull
+        public List<String> relaxedPayloads() {
+            return this.relaxedPayloads == null ? List.of() : this.relaxedPayloads;
+        }
+
+        /**
+         * Gets the modded custom payloads that are still sent to Bedrock players, such as the
+         * Floodgate and Geyser plugin message channels. Every other non-vanilla payload is
+         * dropped for Bedrock players. Entries use the same format as {@link #relaxedPayloads()}.
+         *
+         * @return the payload rules
+         */
+        @NotNull
+        public List<String> bedrockPayloads() {
+            return this.bedrockPayloads == null ? List.of() : this.bedrockPayloads;
+        }
+    }
+
+    /**
+     * Logging related options.
+     */
+    public static class Logging {
+        private boolean trace = false;
+        private int summaryIntervalSeconds = 60;
+
+        /**
+         * Gets if every suppressed packet, error and disconnect should be logged individually.
+         * <p>
+         * This is very noisy on busy servers and is only meant for debugging.
+         *
+         * @return if per event logging is enabled
+         */
+        public boolean trace() {
+            return this.trace;
+        }
+
+        /**
+         * Gets how often, in seconds, summaries of suppressed events are logged.
+         *
+         * @return the summary interval in seconds
+         */
+        public int summaryIntervalSeconds() {
+            return Math.max(1, this.summaryIntervalSeconds);
+        }
+    }
+
+    /**
+     * Options for Bedrock players joining the server.
+     */
+    public static class Joins {
+        private int maxBedrockCompletionsPerTick = 4;
+        private List<String> keptConfigurationTasks = List.of();
+
+        /**
+         * Gets how many Bedrock players may finish their configuration phase per server tick.
+         * Players over this limit wait for a later tick. 0 disables the limit.
+         *
+         * @return the number of Bedrock configurations finished per tick, 0 if unlimited
+         */
+        public int maxBedrockCompletionsPerTick() {
+            return Math.max(0, this.maxBedrockCompletionsPerTick);
+        }
+
+        /**
+         * Gets the fully qualified class names of the configuration tasks that should still run
+         * for Bedrock players. Every other task is skipped.
+         *
+         * @return the class names of the kept configuration tasks
+         */
+        public List<String> keptConfigurationTasks() {
+            return this.keptConfigurationTasks == null ? List.of() : this.keptConfigurationTasks;
+        }
+    }
+
+    /**
+     * Options for telling Bedrock players apart from Java players.
+     */
+    public static class Detection {
+        private String floodgatePrefix = ".";
+        private String bedrockProfileProperty = "";
+
+        /**
+         * Gets the name prefix Floodgate gives Bedrock players. An empty prefix disables the check.
+         *
+         * @return the Floodgate name prefix
+         */
+        @NotNull
+        public String floodgatePrefix() {
+            return this.floodgatePrefix == null ? "" : this.floodgatePrefix;
+        }
+
+        /**
+         * Gets the name of a game profile property that marks Bedrock players, as forwarded
+         * by some proxies. An empty name disables the check.
+         *
+         * @return the name of the Bedrock profile property
+         */
+        @NotNull
+        public String bedrockProfileProperty() {
+            return this.bedrockProfileProperty == null ? "" : this.bedrockProfileProperty;
+        }
+    }
+
+    /**
+     * Options for working around mods that do not handle Bedrock players.
+     */
+    public static class Compatibility {
+        private List<String> skippedBedrockListeners = List.of(
+            "com.legacy.good_nights_sleep.event.GNSPlayerEvents#onEntityJoin"
+        );
+
+        /**
+         * Gets the mod event listeners that should not run for Bedrock players, either as
+         * {@code com.example.Events#method} for a single listener or {@code com.example.Events}
+         * for every listener in the class. Only classes annotated with {@code @EventBusSubscriber}
+         * can be filtered.
+         *
+         * @return the skipped listeners
+         */
+        public List<String> skippedBedrockListeners() {
+            return this.skippedBedrockListeners == null ? List.of() : this.skippedBedrockListeners;
+        }
+    }
+
+    /**
+     * Options for measuring the server tick time spent in Hydraulic.
+     */
+    public static class Profiling {
+        private boolean tickProfiler = true;
+        private int tickBudgetMicros = 1000;
+
+        /**
+         * Gets if the tick time spent in Hydraulic should be measured.
+         *
+         * @return if the tick profiler is enabled
+         */
+        public boolean tickProfiler() {
+            return this.tickProfiler;
+        }
+
+        /**
+         * Gets how many microseconds of a single tick Hydraulic may use before the tick is
+         * flagged as over budget. 0 disables the check.
+         *
+         * @return the tick budget in microseconds, 0 if disabled
+         */
+        public int tickBudgetMicros() {
+            return Math.max(0, this.tickBudgetMicros);
+        }
+    }
+
+    /**
+     * Options for converting mod resources to Bedrock packs.
+     */
+    public static class Packs {
+        private int conversionParallelism = 0;
+        private boolean serveStalePacks = false;
+        private int compressionLevel = 6;
+
+        /**
+         * Gets how many threads may convert packs at the same time.
+         * 0 uses every core but one, so the server thread is never starved.
+         *
+         * @return the conversion parallelism
+         */
+        public int conversionParallelism() {
+            if (this.conversionParallelism <= 0) {
+                return Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+            }
+
+            return this.conversionParallelism;
+        }
+
+        /**
+         * Gets if packs of changed mods should be converted in the background. Until a pack
+         * is converted again, Bedrock players get the pack built for the previous version of
+         * the mod, so they can join as soon as the server is up.
+         *
+         * @return if stale packs are served while converting
+         */
+        public boolean serveStalePacks() {
+            return this.serveStalePacks;
+        }
+
+        /**
+         * Gets the deflate level used when packing converted packs, from 0 (none) to 9 (smallest).
+         * Textures are always stored as is since PNG files are already compressed.
+         *
+         * @return the compression level
+         */
+        public int compressionLevel() {
+            return Math.clamp(this.compressionLevel, 0, 9);
+        }
+    }
+}
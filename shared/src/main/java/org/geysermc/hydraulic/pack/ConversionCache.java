@@ -0,0 +1,221 @@
+package org.geysermc.hydraulic.pack;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.mojang.logging.LogUtils;
+import org.geysermc.hydraulic.platform.mod.ModInfo;
+import org.geysermc.hydraulic.util.ModFingerprint;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * A content-addressed store of converted packs.
+ * <p>
+ * Every pack is stored under a key worked out from everything its conversion reads:
+ * the assets of the mod, the blocks and items it registers, the name and version of
+ * the mod written into the manifest, the version of the pack converter and
+ * {@link #PACK_FORMAT}. Mods that were removed and added back, jars rebuilt without
+ * a change to their assets or version, and Hydraulic updates that do not touch pack
+ * conversion all end up with a key that is already stored, so their pack is copied
+ * out of the cache instead of being converted again. The key doubles as
+ * the pack UUID, Bedrock clients can then also keep using the pack they downloaded.
+ * <p>
+ * Packs that have not been restored, stored or {@link #touch touched} for {@link #MAX_AGE}
+ * are removed by {@link #prune()}, unless they were {@link #publish published} since the
+ * server started.
+ */
+public class ConversionCache {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    /**
+     * The version of the packs Hydraulic produces. Must be bumped whenever a change to
+     * Hydraulic changes the output of a conversion, so stored packs are not reused.
+     */
+    public static final int PACK_FORMAT = 1;
+
+    private static final Duration MAX_AGE = Duration.ofDays(14);
+    private static final String EXTENSION = ".mcpack";
+
+    private final Path directory;
+    private final String converterVersion;
+    private final Set<UUID> published = ConcurrentHashMap.newKeySet();
+
+    public ConversionCache(@NotNull Path directory, @NotNull String converterVersion) {
+        this.directory = directory;
+        this.converterVersion = converterVersion;
+    }
+
+    /**
+     * Works out the key of the pack of the given mod.
+     *
+     * @param mod the mod
+     * @param registryIds the ids of the blocks and items the mod registers
+     * @return the key of the pack
+     */
+    @NotNull
+    public UUID key(@NotNull ModInfo mod, @NotNull Collection<?> registryIds) {
+        Hasher hasher = Hashing.murmur3_128().newHasher()
+            .putInt(PACK_FORMAT)
+            .putString(this.converterVersion, StandardCharsets.UTF_8)
+            .putString(mod.namespace(), StandardCharsets.UTF_8)
+            .putString(mod.name(), StandardCharsets.UTF_8)
+            .putString(mod.version(), StandardCharsets.UTF_8)
+            .putString(ModFingerprint.ofAssets(mod).toString(), StandardCharsets.UTF_8);
+
+        List<String> ids = registryIds.stream().map(Object::toString).sorted().toList();
+        for (String id : ids) {
+            hasher.putString(id, StandardCharsets.UTF_8);
+        }
+
+        return UUID.nameUUIDFromBytes(hasher.hash().asBytes());
+    }
+
+    /**
+     * Copies the stored pack with the given key to the given path.
+     *
+     * @param key the key of the pack
+     * @param packPath the path to copy the pack to
+     * @return {@code true} if the pack was stored and copied
+     */
+    public boolean restore(@NotNull UUID key, @NotNull Path packPath) {
+        Path cached = this.path(key);
+        if (Files.notExists(cached)) {
+            return false;
+        }
+
+        try {
+            Files.createDirectories(packPath.getParent());
+            Files.copy(cached, packPath, StandardCopyOption.REPLACE_EXISTING);
+            Files.setLastModifiedTime(cached, FileTime.from(Instant.now()));
+            return true;
+        } catch (IOException e) {
+            LOGGER.warn("Failed to restore cached pack {}", key, e);
+            return false;
+        }
+    }
+
+    /**
+     * Marks the stored pack with the given key as used, if it is stored.
+     *
+     * @param key the key of the pack
+     */
+    public void touch(@NotNull UUID key) {
+        Path cached = this.path(key);
+        if (Files.notExists(cached)) {
+            return;
+        }
+
+        try {
+            Files.setLastModifiedTime(cached, FileTime.from(Instant.now()));
+        } catch (IOException e) {
+            LOGGER.debug("Failed to touch cached pack {}", key, e);
+        }
+    }
+
+    /**
+     * Stores the pack at the given path under the given key if it is not stored yet, and
+     * gets the stored file. Stored files are never replaced or pruned, so the file can be
+     * served for as long as the server runs.
+     *
+     * @param key the key of the pack
+     * @param packPath the path of the pack
+     * @return the stored file, or {@code null} if the pack could not be stored
+     */
+    @Nullable
+    public Path publish(@NotNull UUID key, @NotNull Path packPath) {
+        this.published.add(key);
+        this.store(key, packPath);
+        this.touch(key);
+
+        Path cached = this.path(key);
+        return Files.exists(cached) ? cached : null;
+    }
+
+    /**
+     * Stores the pack at the given path under the given key. A pack already stored under
+     * the key is kept as is, its contents are the same by definition of the key.
+     *
+     * @param key the key of the pack
+     * @param packPath the path of the converted pack
+     */
+    public void store(@NotNull UUID key, @NotNull Path packPath) {
+        if (Files.notExists(packPath) || Files.exists(this.path(key))) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(this.directory);
+
+            // Copy next to the final file first so a stored pack is never half written
+            Path temp = this.directory.resolve(key + EXTENSION + ".tmp");
+            Files.copy(packPath, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, this.path(key), StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to store converted pack {}", key, e);
+        }
+    }
+
+    /**
+     * Removes the stored packs that have not been used for a while. Packs that are being
+     * stored and packs that are published are kept.
+     */
+    public void prune() {
+        if (Files.notExists(this.directory)) {
+            return;
+        }
+
+        Instant cutoff = Instant.now().minus(MAX_AGE);
+        try (Stream<Path> stream = Files.list(this.directory)) {
+            for (Path path : stream.toList()) {
+                UUID key = key(path);
+                if (key == null || this.published.contains(key)) {
+                    continue;
+                }
+
+                if (Files.getLastModifiedTime(path).toInstant().isBefore(cutoff)) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Failed to prune the conversion cache", e);
+        }
+    }
+
+    private Path path(UUID key) {
+        return this.directory.resolve(key + EXTENSION);
+    }
+
+    /**
+     * Gets the key of a stored pack from its file name, or {@code null} if the file
+     * is not a stored pack, such as a pack that is still being copied in.
+     */
+    @Nullable
+    private static UUID key(Path path) {
+        String fileName = path.getFileName().toString();
+        if (!fileName.endsWith(EXTENSION)) {
+            return null;
+        }
+
+        try {
+            return UUID.fromString(fileName.substring(0, fileName.length() - EXTENSION.length()));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
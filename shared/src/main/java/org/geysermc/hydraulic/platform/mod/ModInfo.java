@@ -13,8 +13,13 @@ public record ModInfo(
     @NotNull String name,
     @NotNull String version,
     @Nullable Path iconPath,
-    @NotNull Collection<Path> roots
+    @NotNull Collection<Path> roots,
+    @Nullable Path archive
 ) {
+    public ModInfo(@NotNull String id, @NotNull String namespace, @NotNull String name, @NotNull String version, @Nullable Path iconPath, @NotNull Collection<Path> roots) {
+        this(id, namespace, name, version, iconPath, roots, null);
+    }
+
     @Nullable
     public Path resolveFile(String file) {
         for (final Path path : roots) {
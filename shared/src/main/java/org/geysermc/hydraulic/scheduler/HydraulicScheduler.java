@@ -0,0 +1,119 @@
+package org.geysermc.hydraulic.scheduler;
+
+import com.mojang.logging.LogUtils;
+import org.geysermc.hydraulic.Constants;
+import org.geysermc.hydraulic.config.HydraulicConfig;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The background threads Hydraulic uses, owned by {@link org.geysermc.hydraulic.HydraulicImpl}.
+ * <p>
+ * Pack conversion runs on a work-stealing pool sized by {@code packs.conversionParallelism},
+ * so idle threads pick up work queued behind a large mod instead of waiting. Work that has
+ * to run on the server thread, including anything delayed by a number of ticks, goes through
+ * the {@code TickScheduler} of the platform instead. The pool is created on first use and
+ * shut down when the server stops, so it is created again if another server is started in
+ * the same process.
+ */
+public class HydraulicScheduler {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private volatile int conversionThreads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+    private ForkJoinPool conversionPool;
+
+    /**
+     * Gets an executor that runs pack conversion tasks on the work-stealing pool. Tasks
+     * start in the order they are submitted, so the longest ones should be submitted first.
+     *
+     * @return the pack conversion executor
+     */
+    @NotNull
+    public Executor conversion() {
+        return task -> this.conversionPool().execute(task);
+    }
+
+    /**
+     * Applies the pack conversion parallelism from the given configuration. A running
+     * pool finishes its tasks, the next conversion creates a pool of the new size.
+     *
+     * @param config the configuration
+     */
+    public synchronized void reload(@NotNull HydraulicConfig config) {
+        int threads = config.packs().conversionParallelism();
+        if (threads == this.conversionThreads) {
+            return;
+        }
+
+        this.conversionThreads = threads;
+        if (this.conversionPool != null) {
+            this.conversionPool.shutdown();
+            this.conversionPool = null;
+        }
+    }
+
+    /**
+     * Gets a snapshot of the state of the pack conversion pool.
+     *
+     * @return the scheduler statistics
+     */
+    @NotNull
+    public synchronized Stats stats() {
+        ForkJoinPool conversion = this.conversionPool;
+        return new Stats(
+            conversion != null ? conversion.getParallelism() : this.conversionThreads,
+            conversion != null ? conversion.getQueuedSubmissionCount() + conversion.getQueuedTaskCount() : 0,
+            conversion != null ? conversion.getActiveThreadCount() : 0,
+            conversion != null ? conversion.getStealCount() : 0
+        );
+    }
+
+    /**
+     * Shuts down the pack conversion pool. Queued conversions still run.
+     */
+    public synchronized void shutdown() {
+        if (this.conversionPool != null) {
+            this.conversionPool.shutdown();
+            this.conversionPool = null;
+        }
+    }
+
+    private synchronized ForkJoinPool conversionPool() {
+        if (this.conversionPool == null) {
+            AtomicInteger threadId = new AtomicInteger();
+            ClassLoader classLoader = HydraulicScheduler.class.getClassLoader();
+            this.conversionPool = new ForkJoinPool(
+                this.conversionThreads,
+                pool -> {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName(Constants.MOD_NAME + " Conversion #" + threadId.getAndIncrement());
+
+                    // The pack converter finds its converters through the context class loader
+                    thread.setContextClassLoader(classLoader);
+                    return thread;
+                },
+                (thread, throwable) -> LOGGER.error("Uncaught exception in thread {}", thread.getName(), throwable),
+                true
+            );
+        }
+
+        return this.conversionPool;
+    }
+
+    /**
+     * A snapshot of the scheduler state.
+     *
+     * @param conversionThreads the parallelism of the pack conversion pool
+     * @param conversionQueued the number of pack conversion tasks waiting for a thread
+     * @param conversionActive the number of pack conversion threads currently busy
+     * @param conversionSteals the number of tasks pack conversion threads took from each other
+     */
+    public record Stats(int conversionThreads, long conversionQueued, int conversionActive, long conversionSteals) {
+    }
+}
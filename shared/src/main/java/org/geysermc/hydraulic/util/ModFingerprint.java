@@ -0,0 +1,217 @@
+package org.geysermc.hydraulic.util;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.gson.reflect.TypeToken;
+import com.mojang.logging.LogUtils;
+import org.geysermc.hydraulic.Constants;
+import org.geysermc.hydraulic.HydraulicImpl;
+import org.geysermc.hydraulic.platform.mod.ModInfo;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Works out a fingerprint of the files of a mod, used to tell if its pack needs to be converted again.
+ * <p>
+ * For mods loaded from a jar only the central directory of the jar is read: the name,
+ * size and CRC-32 of every entry. The zip format stores all of these at the end of the
+ * file, so no entry has to be inflated. Fingerprints are cached against the path, size
+ * and modification time of the jar in {@code cache/fingerprints.json}, which means an
+ * unchanged jar is not opened at all on the next start. Mods without a jar, such as
+ * mods loaded from a directory in development, are fingerprinted from the names, sizes
+ * and modification times of their files.
+ * <p>
+ * Next to the fingerprint of the whole mod a fingerprint of only its assets is kept,
+ * which the {@code ConversionCache} uses so that changes to the code of a mod alone
+ * do not invalidate its converted pack.
+ */
+public class ModFingerprint {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final String ASSETS = "assets/";
+
+    private static final Map<String, CachedFingerprint> CACHE = new ConcurrentHashMap<>();
+
+    private static boolean loaded;
+    private static volatile boolean dirty;
+
+    /**
+     * Gets the fingerprint of the given mod.
+     *
+     * @param mod the mod
+     * @return the fingerprint of the mod
+     */
+    @NotNull
+    public static UUID of(@NotNull ModInfo mod) {
+        CachedFingerprint fingerprint = ofArchive(mod);
+        return fingerprint != null ? UUID.fromString(fingerprint.fingerprint()) : ofRoots(mod.roots(), "");
+    }
+
+    /**
+     * Gets the fingerprint of the assets of the given mod, everything under {@code assets/}.
+     * Unlike {@link #of(ModInfo)} this stays the same when only the code of a mod changes.
+     *
+     * @param mod the mod
+     * @return the fingerprint of the assets of the mod
+     */
+    @NotNull
+    public static UUID ofAssets(@NotNull ModInfo mod) {
+        CachedFingerprint fingerprint = ofArchive(mod);
+        return fingerprint != null ? UUID.fromString(fingerprint.assets()) : ofRoots(mod.roots(), ASSETS);
+    }
+
+    /**
+     * Writes the cached fingerprints to disk if any were added since the last save.
+     */
+    public static void save() {
+        if (!dirty) {
+            return;
+        }
+
+        dirty = false;
+        try {
+            Path path = cachePath();
+            Files.createDirectories(path.getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+                Constants.GSON.toJson(CACHE, writer);
+            }
+        } catch (IOException e) {
+            LOGGER.error("Failed to save the mod fingerprint cache", e);
+        }
+    }
+
+    @Nullable
+    private static CachedFingerprint ofArchive(ModInfo mod) {
+        Path archive = mod.archive();
+        if (archive == null || !Files.isRegularFile(archive)) {
+            return null;
+        }
+
+        load();
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(archive, BasicFileAttributes.class);
+            long modified = attributes.lastModifiedTime().toMillis();
+            String key = archive.toAbsolutePath().normalize().toString();
+
+            CachedFingerprint cached = CACHE.get(key);
+            if (cached != null && cached.assets() != null && cached.size() == attributes.size() && cached.modified() == modified) {
+                return cached;
+            }
+
+            Hasher hasher = Hashing.murmur3_128().newHasher();
+            Hasher assetsHasher = Hashing.murmur3_128().newHasher();
+            try (ZipFile zip = new ZipFile(archive.toFile())) {
+                Enumeration<? extends ZipEntry> entries = zip.entries();
+                while (entries.hasMoreElements()) {
+                    ZipEntry entry = entries.nextElement();
+                    hasher.putString(entry.getName(), StandardCharsets.UTF_8);
+                    hasher.putLong(entry.getSize());
+                    hasher.putLong(entry.getCrc());
+
+                    if (entry.getName().startsWith(ASSETS)) {
+                        assetsHasher.putString(entry.getName(), StandardCharsets.UTF_8);
+                        assetsHasher.putLong(entry.getSize());
+                        assetsHasher.putLong(entry.getCrc());
+                    }
+                }
+            }
+
+            CachedFingerprint fingerprint = new CachedFingerprint(
+                UUID.nameUUIDFromBytes(hasher.hash().asBytes()).toString(),
+                UUID.nameUUIDFromBytes(assetsHasher.hash().asBytes()).toString(),
+                attributes.size(),
+                modified
+            );
+            CACHE.put(key, fingerprint);
+            dirty = true;
+            return fingerprint;
+        } catch (IOException e) {
+            LOGGER.warn("Failed to read the central directory of {}, falling back to its files", archive, e);
+            return null;
+        }
+    }
+
+    private static UUID ofRoots(Collection<Path> roots, String directory) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        for (Path root : roots) {
+            Path start = directory.isEmpty() ? root : root.resolve(directory);
+            if (Files.notExists(start)) {
+                continue;
+            }
+
+            try (Stream<Path> stream = Files.walk(start)) {
+                Iterator<Path> paths = stream.sorted().iterator();
+                while (paths.hasNext()) {
+                    Path path = paths.next();
+                    hasher.putString(root.relativize(path).toString(), StandardCharsets.UTF_8);
+
+                    BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                    if (attributes.isRegularFile()) {
+                        hasher.putLong(attributes.size());
+                        hasher.putLong(attributes.lastModifiedTime().toMillis());
+                    }
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Failed to fingerprint {}", root, e);
+            }
+        }
+
+        return UUID.nameUUIDFromBytes(hasher.hash().asBytes());
+    }
+
+    private static synchronized void load() {
+        if (loaded) {
+            return;
+        }
+
+        loaded = true;
+        Path path = cachePath();
+        if (Files.notExists(path)) {
+            return;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(path)) {
+            Map<String, CachedFingerprint> cache = Constants.GSON.fromJson(reader, new TypeToken<Map<String, CachedFingerprint>>() {}.getType());
+            if (cache != null) {
+                CACHE.putAll(cache);
+            }
+        } catch (Exception e) {
+            LOGGER.warn("Failed to load the mod fingerprint cache, mods will be fingerprinted again", e);
+        }
+    }
+
+    private static Path cachePath() {
+        return HydraulicImpl.instance().dataFolder(Constants.MOD_ID)
+                .resolve("cache")
+                .resolve("fingerprints.json");
+    }
+
+    /**
+     * A fingerprint together with the jar attributes it was worked out for.
+     *
+     * @param fingerprint the fingerprint of the whole jar
+     * @param assets the fingerprint of the assets in the jar
+     * @param size the size of the jar
+     * @param modified the modification time of the jar in milliseconds
+     */
+    private record CachedFingerprint(String fingerprint, String assets, long size, long modified) {
+    }
+}